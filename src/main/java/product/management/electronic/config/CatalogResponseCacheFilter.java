@@ -0,0 +1,123 @@
+package product.management.electronic.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import product.management.electronic.services.CatalogResponseCache;
+import product.management.electronic.services.CatalogResponseCache.CachedResponse;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogResponseCacheFilter extends OncePerRequestFilter {
+    private static final String PRODUCTS_PATH = "/api/products/getAllProducts";
+    private static final String CATEGORIES_PATH = "/api/categories/getAllCategories";
+    private static final String CATEGORIES_BY_TYPE_PATH = "/api/categories/getCategoriesByType/";
+    private static final Map<String, String> PRODUCT_PARAM_DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        PRODUCT_PARAM_DEFAULTS.put("name", "");
+        PRODUCT_PARAM_DEFAULTS.put("page", "1");
+        PRODUCT_PARAM_DEFAULTS.put("size", "10");
+        PRODUCT_PARAM_DEFAULTS.put("sort", "false");
+        PRODUCT_PARAM_DEFAULTS.put("sortBy", "name");
+    }
+
+    private final CatalogResponseCache catalogResponseCache;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return !path.equals(PRODUCTS_PATH) && !path.equals(CATEGORIES_PATH)
+                && !(path.startsWith(CATEGORIES_BY_TYPE_PATH) && path.length() > CATEGORIES_BY_TYPE_PATH.length());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CachedResponse cached = catalogResponseCache.get(key);
+        if (cached == null) {
+            long generation = catalogResponseCache.generation();
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+            cached = catalogResponseCache.put(key, generation, wrapper.getContentAsByteArray(), wrapper.getContentType());
+        }
+        write(cached, request, response);
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getServletPath();
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (!path.equals(PRODUCTS_PATH)) {
+            return parameters.isEmpty() ? path : null;
+        }
+        if (!PRODUCT_PARAM_DEFAULTS.keySet().containsAll(parameters.keySet())) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(path);
+        PRODUCT_PARAM_DEFAULTS.forEach((name, defaultValue) -> {
+            String value = request.getParameter(name);
+            key.append('|').append(value != null ? value.trim() : defaultValue);
+        });
+        return key.toString();
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        byte[] body = cached.body();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzipBody();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,37 +2,36 @@ package product.management.electronic.config;
 
 
 import product.management.electronic.constants.AppConstant;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
 import product.management.electronic.services.JwtTokenService;
-import product.management.electronic.services.UserService;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.JWTParser;
+import product.management.electronic.services.TokenRevocationService;
+import product.management.electronic.services.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.text.ParseException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
-    @Value("${jwt.secret}")
-    private String secret;
-    @Autowired
-    private UserService userService;
     @Autowired
     private JwtTokenService jwtTokenService;
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
 
     private boolean checkPathValid(String path) {
         for (String pattern : AppConstant.WHITE_LIST_URL) {
@@ -54,22 +53,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String token = getJwtFromRequest(request);
-        String username;
-        try {
-            JWTClaimsSet claimsSet = JWTParser.parse(token).getJWTClaimsSet();
-            username = (String) claimsSet.getClaim("userName");
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userService.loadUserByUsername(username);
-                if (userDetails != null) {
-                    if (StringUtils.hasText(token) && jwtTokenService.isValidToken(token, userDetails)) {
-                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
-                }
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            TokenClaimsDto claims = verifiedTokenCache.get(token, jwtTokenService::verifyToken);
+            if (claims != null && !tokenRevocationService.isRevoked(claims)) {
+                List<SimpleGrantedAuthority> authorities = claims.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(claims.getUsername(), null, authorities);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
         }
         filterChain.doFilter(request, response);
     }
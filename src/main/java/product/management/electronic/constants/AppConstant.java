@@ -7,7 +7,8 @@ public class AppConstant {
             "/configuration/security", "/swagger-ui/**", "/webjars/**", "/swagger-ui.html", "/api/auth/**",
             "/api/test/**", "/authenticate", "/api/v1/auth/login", "/api/v1/auth/register","/api/users/forgotPassword",
             "/api/categories/getAllCategories","/api/categories/getCategoriesByType/**",
-            "/api/products/getAllProducts","/api/products/getById/**"
+            "/api/products/getAllProducts","/api/products/getById/**","/api/products/suggest","/api/products/browse",
+            "/api/payments/webhook"
 
     };
     private AppConstant() {
@@ -5,6 +5,7 @@ public class MessageConstant {
     public static final String VALUE_NO_EXIST="Value doesn't exist";
     public static final String TOKEN_INVALID ="Token is invalid";
     public static final String REFRESH_TOKEN_EXPIRED="Refresh token was expired. Please make a new sign in request";
+    public static final String REFRESH_TOKEN_REVOKED="Refresh token was revoked. Please make a new sign in request";
     public static final String RESOURCE_NOT_FOUND="Username or password is incorrect";
     public static final String ACCESS_DENIED="You do not have permission to access this resource.";
     public static final String ITEM_UPDATED_SUCCESS="Item updated successfully";
@@ -21,5 +22,8 @@ public class MessageConstant {
     public static final String ORDER_UPDATED_SUCCESS="Update order successful";
     public static final String ORDER_NOT_FOUND="Order not found";
     public static final String PRODUCT_NOT_ENOUGH="Product not enough";
+    public static final String CURSOR_INVALID="Cursor is invalid";
+    public static final String WEBHOOK_SECRET_INVALID="Webhook secret is invalid";
+    public static final String PAYMENT_QUEUE_FULL="Payment queue is full, please retry later";
 }
 
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
 import product.management.electronic.dto.Cart.CartDto;
 import product.management.electronic.dto.Cart.CartItemAddDto;
+import product.management.electronic.dto.Cart.CartSummaryDto;
 import product.management.electronic.dto.Cart.UpdateCartDto;
 
 import product.management.electronic.services.CartService;
@@ -49,6 +50,13 @@ public class CartController {
         return ResponseEntity.ok(cartService.getCartByUserId(user.getId()));
     }
 
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/summary")
+    public ResponseEntity<CartSummaryDto> getCartSummary(Authentication authentication) {
+        UserDto user = userService.findByUsername(authentication.getName());
+        return ResponseEntity.ok(cartService.getCartSummaryByUserId(user.getId()));
+    }
+
     @PutMapping("/{cartId}")
     public ResponseEntity<CartDto> updateCart(
             @PathVariable UUID cartId,
@@ -3,6 +3,7 @@ package product.management.electronic.controllers;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +19,7 @@ import product.management.electronic.response.ApiResponse;
 import product.management.electronic.services.OrderService;
 import product.management.electronic.services.UserService;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -61,8 +63,13 @@ public class OrderController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean sort,
-            @RequestParam(defaultValue = "createAt") String sortBy
+            @RequestParam(defaultValue = "createAt") String sortBy,
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(),
+                    orderService.scrollAll(orderStatus, paymentStatus, cursor, Math.max(1, size), sort, sortBy)));
+        }
         int pageIndex = Math.max(0, page - 1);
         return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(), orderService.getAll(orderStatus,paymentStatus,pageIndex, size, sort, sortBy)));
     }
@@ -73,6 +80,8 @@ public class OrderController {
             Authentication authentication,
             @RequestParam(required = false) OrderStatus orderStatus,
             @RequestParam(required = false) PaymentStatus paymentStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -81,7 +90,7 @@ public class OrderController {
         String username = authentication.getName();
         UserDto user = userService.findByUsername(username);
         UUID userId = user.getId();
-        Page<OrderDto> orderPage = orderService.getOrdersByUserId(userId, orderStatus, paymentStatus, page, size, sortBy, direction);
+        Page<OrderDto> orderPage = orderService.getOrdersByUserId(userId, orderStatus, paymentStatus, startDate, endDate, page, size, sortBy, direction);
         Map<String, Object> response = new HashMap<>();
         response.put("content", orderPage.getContent());
         response.put("totalItems", orderPage.getTotalElements());
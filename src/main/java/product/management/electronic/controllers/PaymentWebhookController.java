@@ -0,0 +1,44 @@
+package product.management.electronic.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.exceptions.ServiceUnavailableException;
+import product.management.electronic.exceptions.UnauthorizedException;
+import product.management.electronic.response.ApiResponse;
+import product.management.electronic.services.PaymentIngestionService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import static product.management.electronic.constants.MessageConstant.PAYMENT_QUEUE_FULL;
+import static product.management.electronic.constants.MessageConstant.WEBHOOK_SECRET_INVALID;
+
+@RestController
+@RequestMapping("/api/payments")
+@RequiredArgsConstructor
+public class PaymentWebhookController {
+    private final PaymentIngestionService paymentIngestionService;
+    @Value("${payment.webhook.secret:}")
+    private String webhookSecret;
+
+    @PostMapping("/webhook")
+    public ResponseEntity<ApiResponse> receive(
+            @RequestHeader(value = "X-Webhook-Secret", required = false) String secret,
+            @RequestBody List<PaymentTransactionDto> transactions
+    ) {
+        if (webhookSecret.isBlank() || secret == null || !MessageDigest.isEqual(
+                webhookSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8))) {
+            throw new UnauthorizedException(WEBHOOK_SECRET_INVALID);
+        }
+        if (!paymentIngestionService.offer(transactions)) {
+            throw new ServiceUnavailableException(PAYMENT_QUEUE_FULL);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse(HttpStatus.ACCEPTED.value(), transactions.size()));
+    }
+}
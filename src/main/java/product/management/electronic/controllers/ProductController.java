@@ -1,7 +1,9 @@
 package product.management.electronic.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,25 +11,37 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import product.management.electronic.dto.Product.AddProductDto;
+import product.management.electronic.dto.Product.ProductBrowseDto;
 import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.dto.Product.ProductFilterDto;
+import product.management.electronic.enums.ExportFormat;
 import product.management.electronic.response.ApiResponse;
+import product.management.electronic.services.HotStockService;
 import product.management.electronic.services.ProductService;
+import product.management.electronic.services.ProductSuggestService;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
 import static product.management.electronic.constants.MessageConstant.ITEM_CREATED_SUCCESS;
 import static product.management.electronic.constants.MessageConstant.ITEM_DELETED_SUCCESS;
+import static product.management.electronic.constants.MessageConstant.ITEM_UPDATED_SUCCESS;
 
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
     private final ProductService productService;
+    private final ProductSuggestService productSuggestService;
+    private final HotStockService hotStockService;
 
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductSuggestService productSuggestService,
+                             HotStockService hotStockService) {
         this.productService = productService;
+        this.productSuggestService = productSuggestService;
+        this.hotStockService = hotStockService;
     }
 
     @Operation(summary = "Add new product")
@@ -40,13 +54,17 @@ public class ProductController {
     }
 
     @GetMapping("/getAllProducts")
-    public ResponseEntity<List<ProductDto>> getAllProducts(
+    public ResponseEntity<?> getAllProducts(
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean sort,
-            @RequestParam(defaultValue = "name") String sortBy
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(productService.scrollProducts(name, cursor, Math.max(1, size), sort, sortBy));
+        }
         int pageIndex = Math.max(0, page - 1);
         if (name != null) {
             List<ProductDto> products = productService.getByName(name, pageIndex, size, sort, sortBy);
@@ -57,6 +75,41 @@ public class ProductController {
         }
     }
 
+    @Operation(summary = "Filter products by brand, category, price and availability with facet counts")
+    @GetMapping("/browse")
+    public ResponseEntity<ApiResponse> browseProducts(
+            ProductFilterDto filter,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        ProductBrowseDto result = productService.browseProducts(filter, Math.max(0, page - 1), Math.max(1, size));
+        return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(), result));
+    }
+
+    @Operation(summary = "Suggest product names and brands for a typed prefix")
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<String> suggestions = productSuggestService.suggest(q, Math.max(1, limit));
+        return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(), suggestions));
+    }
+
+    @Operation(summary = "Export the full product catalog as NDJSON or CSV")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @GetMapping("/export")
+    public void exportProducts(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean csv = format == ExportFormat.CSV;
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + (csv ? "csv" : "ndjson"));
+        productService.exportProducts(format, response.getOutputStream());
+    }
+
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
     @DeleteMapping("/delete/{id}")
     public ResponseEntity<ApiResponse> deleteProduct(@PathVariable UUID id) {
@@ -76,6 +129,16 @@ public class ProductController {
                 .body(new ApiResponse(HttpStatus.OK.value(), "Product updated successfully"));
     }
 
+    @Operation(summary = "Toggle in-memory stock counters for a flash-sale product")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PutMapping("/{productId}/hot-sku")
+    public ResponseEntity<ApiResponse> setHotSku(
+            @PathVariable UUID productId,
+            @RequestParam boolean enabled) {
+        hotStockService.setHotSku(productId, enabled);
+        return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(), ITEM_UPDATED_SUCCESS));
+    }
+
     @GetMapping("/getById/{id}")
     public ResponseEntity<ApiResponse> getProduct(@PathVariable UUID id) {
         ProductDto productDto = productService.getById(id);
@@ -32,7 +32,8 @@ public class StatisticsController {
     @GetMapping("/top-products")
     public ResponseEntity<ApiResponse> getTopSellingProducts(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "10") int limit
     ) {
         if (endDate == null) {
             endDate = LocalDate.now();
@@ -40,7 +41,8 @@ public class StatisticsController {
         if (startDate == null) {
             startDate = endDate.minusDays(30);
         }
-        List<ProductSalesDto> productSalesDto = statisticsService.getTopSellingProducts(startDate, endDate);
+        int topN = Math.min(Math.max(limit, 1), 100);
+        List<ProductSalesDto> productSalesDto = statisticsService.getTopSellingProducts(startDate, endDate, topN);
         return ResponseEntity.ok(new ApiResponse(HttpStatus.OK.value(), productSalesDto));
     }
 
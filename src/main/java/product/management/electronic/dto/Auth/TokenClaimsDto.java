@@ -0,0 +1,16 @@
+package product.management.electronic.dto.Auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TokenClaimsDto {
+    private final String username;
+    private final List<String> roles;
+    private final String jwtId;
+    private final long issuedAt;
+    private final long expiresAt;
+}
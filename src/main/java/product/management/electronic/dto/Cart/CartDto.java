@@ -1,6 +1,7 @@
 package product.management.electronic.dto.Cart;
 
 import lombok.*;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,5 +13,6 @@ public class CartDto {
     private UUID id;
     private UUID userId;
     private List<CartItemDto> cartDetails;
-    private double totalPrice;
+    private int itemCount;
+    private BigDecimal totalPrice;
 }
\ No newline at end of file
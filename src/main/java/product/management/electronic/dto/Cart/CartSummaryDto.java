@@ -0,0 +1,17 @@
+package product.management.electronic.dto.Cart;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartSummaryDto {
+    private UUID id;
+    private UUID userId;
+    private int itemCount;
+    private BigDecimal subtotal;
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -20,6 +21,7 @@ public class OrderDto {
     private PaymentStatus paymentStatus;
     private String shippingAddress;
     private String note;
-    private double totalAmount;
+    private BigDecimal totalAmount;
+    private int itemCount;
     private List<OrderItemDto> items;
 }
@@ -0,0 +1,14 @@
+package product.management.electronic.dto.Payment;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentTransactionDto {
+    private String content;
+    private BigDecimal amount;
+}
@@ -0,0 +1,15 @@
+package product.management.electronic.dto.Product;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBrowseDto {
+    private List<ProductDto> items;
+    private long totalItems;
+    private ProductFacetsDto facets;
+}
@@ -0,0 +1,26 @@
+package product.management.electronic.dto.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductExportDto {
+    private UUID id;
+    private String name;
+    private String sku;
+    private String description;
+    private String brand;
+    private BigDecimal price;
+    private int quantity;
+    private String thumbnail;
+    private UUID categoryId;
+    private boolean isFeatured;
+}
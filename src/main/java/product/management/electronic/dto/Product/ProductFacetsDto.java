@@ -0,0 +1,18 @@
+package product.management.electronic.dto.Product;
+
+import lombok.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDto {
+    private Map<String, Long> brands;
+    private Map<UUID, Long> categories;
+    private Map<String, Long> priceRanges;
+    private Map<String, Long> availability;
+    private Map<String, Long> featured;
+}
@@ -0,0 +1,21 @@
+package product.management.electronic.dto.Product;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterDto {
+    private List<String> brands = new ArrayList<>();
+    private List<UUID> categoryIds = new ArrayList<>();
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean featured;
+    private Boolean inStock;
+}
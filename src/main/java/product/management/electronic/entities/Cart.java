@@ -3,6 +3,7 @@ package product.management.electronic.entities;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import java.math.BigDecimal;
 import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,6 +28,10 @@ public class Cart {
     private User users;
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int itemCount;
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal subtotal = BigDecimal.ZERO;
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -7,6 +7,7 @@ import java.sql.Types;
 import java.util.UUID;
 
 @Entity(name = "cart_item")
+@Table(indexes = @Index(name = "idx_cart_item_cart_product", columnList = "cart_id, product_id"))
 @Getter
 @Setter
 @AllArgsConstructor
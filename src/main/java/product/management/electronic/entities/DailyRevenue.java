@@ -0,0 +1,28 @@
+package product.management.electronic.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_revenue")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRevenue {
+    @Id
+    @Column(name = "revenue_date")
+    private LocalDate revenueDate;
+    @Column(nullable = false)
+    private long orderCount;
+    @Column(nullable = false)
+    private long itemCount;
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+}
@@ -9,6 +9,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
 
+import java.math.BigDecimal;
 import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,16 +17,30 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity(name = "orders")
+@Table(indexes = {
+        @Index(name = "idx_orders_user_status_payment_created",
+                columnList = "user_id, order_status, payment_status, created_at"),
+        @Index(name = "idx_orders_payment_total", columnList = "payment_status, total_amount"),
+        @Index(name = "idx_orders_status_payment_created_total",
+                columnList = "order_status, payment_status, created_at, total_amount, item_count")
+})
+@NamedEntityGraph(name = Order.LISTING_GRAPH, attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = Order.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("orderDetails")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Order {
+    public static final String LISTING_GRAPH = "Order.listing";
+    public static final String DETAIL_GRAPH = "Order.detail";
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(unique = true, updatable = false)
     @JdbcTypeCode(Types.VARCHAR)
     private UUID id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId",unique = false)
     private User user;
     @CreationTimestamp
@@ -37,8 +52,12 @@ public class Order {
     @Column(nullable = false, columnDefinition = "VARCHAR(20) DEFAULT 'UNPAID'")
     @Enumerated(EnumType.STRING)
     private PaymentStatus paymentStatus;
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItem> orderDetails = new ArrayList<>();
     private String note;
     private String shippingAddress;
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int itemCount;
 }
\ No newline at end of file
@@ -21,10 +21,10 @@ public class OrderItem {
     @Column(unique = true, updatable = false)
     @JdbcTypeCode(Types.VARCHAR)
     private UUID id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
     private String productName;
@@ -32,4 +32,6 @@ public class OrderItem {
     private int quantity;
     private double unitPrice;
     private double totalPrice;
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT TRUE")
+    private boolean stockApplied = true;
 }
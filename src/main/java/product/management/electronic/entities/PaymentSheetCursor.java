@@ -0,0 +1,26 @@
+package product.management.electronic.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payment_sheet_cursor")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentSheetCursor {
+    @Id
+    @Column(name = "source_key")
+    private String sourceKey;
+    @Column(nullable = false)
+    private int lastRowIndex;
+    @Column(length = 32)
+    private String lastRowHash;
+    private LocalDateTime updatedAt;
+}
@@ -43,6 +43,8 @@ public class Product {
     private Category category;
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private boolean isFeatured;
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean hotSku;
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<CartItem> cartItems;
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
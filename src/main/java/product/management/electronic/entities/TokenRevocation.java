@@ -0,0 +1,24 @@
+package product.management.electronic.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "token_revocation", indexes = @Index(name = "idx_token_revocation_updated", columnList = "updated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+    @Id
+    private String username;
+    @Column(nullable = false)
+    private long revokedBefore;
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
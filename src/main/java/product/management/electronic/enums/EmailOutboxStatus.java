@@ -0,0 +1,7 @@
+package product.management.electronic.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
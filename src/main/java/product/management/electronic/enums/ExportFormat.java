@@ -0,0 +1,6 @@
+package product.management.electronic.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
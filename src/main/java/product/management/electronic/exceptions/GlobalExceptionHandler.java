@@ -74,6 +74,11 @@ public class GlobalExceptionHandler implements AccessDeniedHandler {
         return buildErrorResponse(ex, HttpStatus.CONFLICT, "Conflict", request);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", request);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException e, WebRequest request) {
         return buildErrorResponse(e, HttpStatus.NOT_FOUND, "Resource Not Found", request);
@@ -3,6 +3,7 @@ package product.management.electronic.mapper;
 import org.springframework.stereotype.Component;
 import product.management.electronic.dto.Cart.CartDto;
 import product.management.electronic.dto.Cart.CartItemDto;
+import product.management.electronic.dto.Cart.CartSummaryDto;
 import product.management.electronic.entities.Cart;
 import product.management.electronic.entities.CartItem;
 
@@ -24,14 +25,14 @@ public class CartMapper {
         );
     }
 
-    public CartDto toCartDTO(Cart cart) {
-        List<CartItemDto> items = cart.getItems().stream()
+    public CartDto toCartDTO(Cart cart, List<CartItem> cartItems) {
+        List<CartItemDto> items = cartItems.stream()
                 .map(this::toCartItemDTO)
                 .collect(Collectors.toList());
+        return new CartDto(cart.getId(), cart.getUsers().getId(), items, cart.getItemCount(), cart.getSubtotal());
+    }
 
-        double totalPrice = items.stream()
-                .mapToDouble(CartItemDto::getTotalPrice)
-                .sum();
-        return new CartDto(cart.getId(), cart.getUsers().getId(), items, totalPrice);
+    public CartSummaryDto toCartSummaryDTO(Cart cart) {
+        return new CartSummaryDto(cart.getId(), cart.getUsers().getId(), cart.getItemCount(), cart.getSubtotal());
     }
 }
\ No newline at end of file
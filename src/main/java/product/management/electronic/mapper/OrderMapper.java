@@ -26,7 +26,8 @@ public class OrderMapper {
                 .map(this::toItemDto)
                 .collect(Collectors.toList());
         dto.setItems(itemDtos);
-        dto.setTotalAmount(calculateTotalAmount(itemDtos));
+        dto.setTotalAmount(order.getTotalAmount());
+        dto.setItemCount(order.getItemCount());
         return dto;
     }
     public List<OrderDto> todtoList(List<Order> orders){
@@ -47,11 +48,6 @@ public class OrderMapper {
         return dto;
     }
 
-    private double calculateTotalAmount(List<OrderItemDto> items) {
-        return items.stream()
-                .mapToDouble(OrderItemDto::getTotalPrice)
-                .sum();
-    }
     public OrderItemDto mapToDto(OrderItem item) {
         return new OrderItemDto(
                 item.getId(),
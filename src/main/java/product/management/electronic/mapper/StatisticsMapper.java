@@ -1,9 +1,11 @@
 package product.management.electronic.mapper;
 
 import org.springframework.stereotype.Component;
+import product.management.electronic.dto.Statistics.Revenue.ProductSalesDto;
 import product.management.electronic.dto.Statistics.Revenue.RevenueByDateDto;
 import product.management.electronic.dto.Statistics.Revenue.RevenueByMonthDto;
 import product.management.electronic.dto.Statistics.Revenue.RevenueByWeekDto;
+import product.management.electronic.repository.projection.ProductSalesView;
 
 import java.time.LocalDate;
 
@@ -18,4 +20,13 @@ public class StatisticsMapper {
     public RevenueByMonthDto toRevenueByMonthDto(LocalDate date, double totalRevenue){
         return new RevenueByMonthDto(date,totalRevenue);
     }
+    public ProductSalesDto toProductSalesDto(ProductSalesView view){
+        return new ProductSalesDto(
+                view.getProductId(),
+                view.getProductName(),
+                view.getThumbnail(),
+                view.getQuantitySold().intValue(),
+                view.getTotalRevenue()
+        );
+    }
 }
@@ -1,15 +1,30 @@
 package product.management.electronic.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import product.management.electronic.entities.Cart;
 import product.management.electronic.entities.CartItem;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, UUID> {
     List<CartItem> findUserById(UUID id);
+    @EntityGraph(attributePaths = {"product", "product.category"})
     List<CartItem> findAllByIdIn(List<UUID> id);
+
+    @Query("SELECT ci FROM cart_item ci WHERE ci.cart.id = :cartId AND ci.product.id = :productId")
+    Optional<CartItem> findByCartIdAndProductId(@Param("cartId") UUID cartId, @Param("productId") UUID productId);
+
+    @Query("SELECT ci FROM cart_item ci WHERE ci.cart.id = :cartId AND ci.product.id IN :productIds")
+    List<CartItem> findAllByCartIdAndProductIdIn(@Param("cartId") UUID cartId, @Param("productIds") Collection<UUID> productIds);
+
+    @Query("SELECT ci FROM cart_item ci WHERE ci.cart.id = :cartId")
+    List<CartItem> findAllByCartId(@Param("cartId") UUID cartId);
 }
@@ -1,14 +1,33 @@
 package product.management.electronic.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import product.management.electronic.entities.Cart;
 import product.management.electronic.entities.User;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, UUID> {
     Optional<Cart> findByUsers(User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Cart> findLockedByUsers(User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Cart> findLockedById(UUID id);
+
+    @Modifying
+    @Query("UPDATE carts c SET c.itemCount = c.itemCount + :quantityDelta, c.subtotal = c.subtotal + :amountDelta " +
+            "WHERE c.id = :cartId")
+    int adjustSummary(@Param("cartId") UUID cartId,
+                      @Param("quantityDelta") int quantityDelta,
+                      @Param("amountDelta") BigDecimal amountDelta);
 }
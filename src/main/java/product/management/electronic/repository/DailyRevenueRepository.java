@@ -0,0 +1,25 @@
+package product.management.electronic.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import product.management.electronic.entities.DailyRevenue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Repository
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, LocalDate> {
+    @Modifying
+    @Query(value = "INSERT INTO daily_revenue (revenue_date, order_count, item_count, revenue) " +
+            "VALUES (:revenueDate, :orderCount, :itemCount, :revenue) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), " +
+            "item_count = item_count + VALUES(item_count), revenue = revenue + VALUES(revenue)",
+            nativeQuery = true)
+    void addToDay(@Param("revenueDate") LocalDate revenueDate,
+                  @Param("orderCount") long orderCount,
+                  @Param("itemCount") long itemCount,
+                  @Param("revenue") BigDecimal revenue);
+}
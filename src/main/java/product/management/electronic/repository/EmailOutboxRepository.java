@@ -0,0 +1,32 @@
+package product.management.electronic.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.entities.EmailOutbox;
+import product.management.electronic.enums.EmailOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(EmailOutboxStatus status,
+                                                                             LocalDateTime nextAttemptAt,
+                                                                             Pageable pageable);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt = :nextAttemptAt")
+    int claim(@Param("id") Long id,
+              @Param("status") EmailOutboxStatus status,
+              @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,29 @@
+package product.management.electronic.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import product.management.electronic.entities.OrderItem;
+import product.management.electronic.repository.projection.PendingStockView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
+    @Query("SELECT oi.id AS id, oi.product.id AS productId, oi.quantity AS quantity " +
+            "FROM orderItem oi WHERE oi.stockApplied = false")
+    List<PendingStockView> findPendingStock(Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(oi.quantity), 0) FROM orderItem oi " +
+            "WHERE oi.product.id = :productId AND oi.stockApplied = false")
+    long sumPendingQuantity(@Param("productId") UUID productId);
+
+    @Modifying
+    @Query("UPDATE orderItem oi SET oi.stockApplied = true WHERE oi.id IN :ids AND oi.stockApplied = false")
+    int markStockApplied(@Param("ids") Collection<UUID> ids);
+}
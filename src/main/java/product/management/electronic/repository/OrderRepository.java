@@ -1,8 +1,11 @@
 package product.management.electronic.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,15 +13,29 @@ import product.management.electronic.entities.Order;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
+    @EntityGraph(Order.LISTING_GRAPH)
     List<Order> findAllByOrderStatusAndPaymentStatus(OrderStatus orderStatus, PaymentStatus paymentStatus, Pageable pageable);
-    @Query("SELECT o FROM orders o WHERE o.user.id = :userId")
-    Page<Order> findAllByUserId(@Param("userId") UUID userId, Pageable pageable);
-    List<Order> findByNoteAndPaymentStatus(String note, PaymentStatus paymentStatus);
 
+    @EntityGraph(Order.LISTING_GRAPH)
+    Window<Order> findAllByOrderStatusAndPaymentStatus(OrderStatus orderStatus, PaymentStatus paymentStatus, ScrollPosition position, Sort sort, Limit limit);
+
+    @Override
+    @EntityGraph(Order.LISTING_GRAPH)
+    Page<Order> findAll(Specification<Order> specification, Pageable pageable);
+
+    List<Order> findAllByIdInAndPaymentStatus(Collection<UUID> ids, PaymentStatus paymentStatus);
+
+    @Modifying
+    @Query("UPDATE orders o SET o.paymentStatus = :status WHERE o.id = :id AND o.paymentStatus = :expected")
+    int updatePaymentStatus(@Param("id") UUID id, @Param("expected") PaymentStatus expected, @Param("status") PaymentStatus status);
+
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Optional<Order> findDetailById(UUID id);
 }
@@ -0,0 +1,9 @@
+package product.management.electronic.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import product.management.electronic.entities.PaymentSheetCursor;
+
+@Repository
+public interface PaymentSheetCursorRepository extends JpaRepository<PaymentSheetCursor, String> {
+}
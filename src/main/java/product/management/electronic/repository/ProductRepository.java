@@ -1,17 +1,25 @@
 package product.management.electronic.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import product.management.electronic.entities.Product;
+import product.management.electronic.repository.projection.ProductQuantityView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductStockRepository {
     Optional<Product> findBySku(String sku);
 
     boolean existsBySku(String sku);
@@ -19,4 +27,25 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
     Optional<List<Product>> findByNameContaining(String name, Pageable pageable);
 
     Page<Product> findAll(Pageable pageable);
-}
\ No newline at end of file
+
+    Window<Product> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Product> findByNameContaining(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Product p JOIN FETCH p.category")
+    Stream<Product> streamAllWithCategory();
+
+    @Query("SELECT p.id AS productId, CAST(p.quantity AS Long) AS quantity FROM Product p WHERE p.id IN :ids")
+    List<ProductQuantityView> findQuantitiesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity WHERE p.id = :id")
+    int applyStockDelta(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    List<Product> findByHotSkuTrue();
+}
@@ -0,0 +1,8 @@
+package product.management.electronic.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductStockRepository {
+    int decrementStock(Map<UUID, Integer> quantities);
+}
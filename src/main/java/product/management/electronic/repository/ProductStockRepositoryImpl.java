@@ -0,0 +1,44 @@
+package product.management.electronic.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import product.management.electronic.entities.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public int decrementStock(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder amount = new StringBuilder("CASE p.id");
+        StringBuilder condition = new StringBuilder();
+        List<UUID> ids = new ArrayList<>(quantities.size());
+        for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+            ids.add(entry.getKey());
+            int position = ids.size();
+            int quantity = entry.getValue();
+            amount.append(" WHEN ?").append(position).append(" THEN ").append(quantity);
+            if (!condition.isEmpty()) {
+                condition.append(" OR ");
+            }
+            condition.append("(p.id = ?").append(position).append(" AND p.quantity >= ").append(quantity).append(')');
+        }
+        amount.append(" ELSE 0 END");
+        entityManager.flush();
+        Query query = entityManager.createQuery("UPDATE " + Product.class.getSimpleName()
+                + " p SET p.quantity = p.quantity - " + amount + " WHERE " + condition);
+        for (int i = 0; i < ids.size(); i++) {
+            query.setParameter(i + 1, ids.get(i));
+        }
+        return query.executeUpdate();
+    }
+}
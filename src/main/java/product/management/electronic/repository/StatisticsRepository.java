@@ -1,22 +1,62 @@
 package product.management.electronic.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import product.management.electronic.entities.Order;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.projection.DailyRevenueView;
+import product.management.electronic.repository.projection.ProductQuantityView;
+import product.management.electronic.repository.projection.ProductSalesView;
+import product.management.electronic.repository.projection.RevenueBucketView;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface StatisticsRepository extends JpaRepository<Order, UUID> {
-    List<Order> findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-            LocalDateTime start,
-            LocalDateTime end,
-            OrderStatus status,
-            PaymentStatus paymentStatus
+    @Query("SELECT oi.product.id AS productId, MAX(oi.productName) AS productName, MAX(oi.thumbnail) AS thumbnail, " +
+            "SUM(oi.quantity) AS quantitySold, SUM(oi.totalPrice) AS totalRevenue " +
+            "FROM orderItem oi JOIN oi.order o " +
+            "WHERE o.createdAt BETWEEN :start AND :end AND o.orderStatus = :status AND o.paymentStatus = :paymentStatus " +
+            "GROUP BY oi.product.id ORDER BY SUM(oi.quantity) DESC")
+    List<ProductSalesView> findTopSellingProducts(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("status") OrderStatus status,
+            @Param("paymentStatus") PaymentStatus paymentStatus,
+            Pageable pageable
     );
 
+    @Query(value = "SELECT DATE(o.created_at) AS revenueDate, COUNT(o.id) AS orderCount, " +
+            "COALESCE(SUM(o.item_count), 0) AS itemCount, COALESCE(SUM(o.total_amount), 0) AS revenue " +
+            "FROM orders o " +
+            "WHERE o.order_status = 'COMPLETED' AND o.payment_status = 'PAID' " +
+            "GROUP BY DATE(o.created_at)",
+            nativeQuery = true)
+    List<DailyRevenueView> aggregateCompletedRevenueByDay();
+
+    @Query("SELECT d.revenueDate AS bucketStart, SUM(d.revenue) AS revenue FROM DailyRevenue d " +
+            "WHERE d.revenueDate BETWEEN :start AND :end " +
+            "GROUP BY d.revenueDate HAVING SUM(d.orderCount) > 0 ORDER BY d.revenueDate")
+    List<RevenueBucketView> sumRevenueByDay(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("SELECT MIN(d.revenueDate) AS bucketStart, SUM(d.revenue) AS revenue FROM DailyRevenue d " +
+            "WHERE d.revenueDate BETWEEN :start AND :end " +
+            "GROUP BY EXTRACT(WEEK FROM d.revenueDate) ORDER BY MIN(d.revenueDate)")
+    List<RevenueBucketView> sumRevenueByWeek(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("SELECT MIN(d.revenueDate) AS bucketStart, SUM(d.revenue) AS revenue FROM DailyRevenue d " +
+            "WHERE d.revenueDate BETWEEN :start AND :end " +
+            "GROUP BY EXTRACT(MONTH FROM d.revenueDate) ORDER BY MIN(d.revenueDate)")
+    List<RevenueBucketView> sumRevenueByMonth(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @Query("SELECT oi.product.id AS productId, SUM(oi.quantity) AS quantity FROM orderItem oi JOIN oi.order o " +
+            "WHERE o.orderStatus <> :excludedStatus GROUP BY oi.product.id")
+    List<ProductQuantityView> sumQuantitySoldByProduct(@Param("excludedStatus") OrderStatus excludedStatus);
 }
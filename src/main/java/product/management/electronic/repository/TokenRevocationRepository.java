@@ -0,0 +1,13 @@
+package product.management.electronic.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import product.management.electronic.entities.TokenRevocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+    List<TokenRevocation> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
+}
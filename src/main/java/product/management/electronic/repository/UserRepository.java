@@ -19,4 +19,5 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT us FROM User us WHERE us.id = ?1")
     Optional<User> findUserById(UUID id);
     boolean existsByEmailAndIdNot(String email, UUID id);
+    boolean existsByUsernameAndIsActiveTrue(String username);
 }
@@ -0,0 +1,14 @@
+package product.management.electronic.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyRevenueView {
+    LocalDate getRevenueDate();
+
+    long getOrderCount();
+
+    long getItemCount();
+
+    BigDecimal getRevenue();
+}
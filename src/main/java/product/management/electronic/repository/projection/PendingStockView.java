@@ -0,0 +1,11 @@
+package product.management.electronic.repository.projection;
+
+import java.util.UUID;
+
+public interface PendingStockView {
+    UUID getId();
+
+    UUID getProductId();
+
+    Integer getQuantity();
+}
@@ -0,0 +1,9 @@
+package product.management.electronic.repository.projection;
+
+import java.util.UUID;
+
+public interface ProductQuantityView {
+    UUID getProductId();
+
+    Long getQuantity();
+}
@@ -0,0 +1,15 @@
+package product.management.electronic.repository.projection;
+
+import java.util.UUID;
+
+public interface ProductSalesView {
+    UUID getProductId();
+
+    String getProductName();
+
+    String getThumbnail();
+
+    Long getQuantitySold();
+
+    Double getTotalRevenue();
+}
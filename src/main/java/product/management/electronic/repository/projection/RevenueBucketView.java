@@ -0,0 +1,10 @@
+package product.management.electronic.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface RevenueBucketView {
+    LocalDate getBucketStart();
+
+    BigDecimal getRevenue();
+}
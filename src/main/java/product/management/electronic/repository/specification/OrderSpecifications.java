@@ -0,0 +1,34 @@
+package product.management.electronic.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public final class OrderSpecifications {
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> belongsTo(UUID userId) {
+        return (root, query, builder) -> builder.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Order> hasOrderStatus(OrderStatus orderStatus) {
+        return (root, query, builder) -> orderStatus == null ? null : builder.equal(root.get("orderStatus"), orderStatus);
+    }
+
+    public static Specification<Order> hasPaymentStatus(PaymentStatus paymentStatus) {
+        return (root, query, builder) -> paymentStatus == null ? null : builder.equal(root.get("paymentStatus"), paymentStatus);
+    }
+
+    public static Specification<Order> createdFrom(LocalDateTime start) {
+        return (root, query, builder) -> start == null ? null : builder.greaterThanOrEqualTo(root.get("createdAt"), start);
+    }
+
+    public static Specification<Order> createdBefore(LocalDateTime end) {
+        return (root, query, builder) -> end == null ? null : builder.lessThan(root.get("createdAt"), end);
+    }
+}
@@ -0,0 +1,16 @@
+package product.management.electronic.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScrollResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -2,6 +2,7 @@ package product.management.electronic.services;
 
 import product.management.electronic.dto.Cart.CartDto;
 import product.management.electronic.dto.Cart.CartItemAddDto;
+import product.management.electronic.dto.Cart.CartSummaryDto;
 import product.management.electronic.entities.Cart;
 import product.management.electronic.entities.User;
 import product.management.electronic.dto.Cart.UpdateCartDto;
@@ -13,5 +14,6 @@ public interface CartService {
     CartDto updateCart(UUID cartId, List<UpdateCartDto> cartItemRequests);
     public CartDto addToCart(CartItemAddDto request);
     public CartDto getCartByUserId(UUID userId);
+    CartSummaryDto getCartSummaryByUserId(UUID userId);
     Cart findUser(UUID id);
 }
\ No newline at end of file
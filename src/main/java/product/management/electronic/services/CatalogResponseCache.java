@@ -0,0 +1,11 @@
+package product.management.electronic.services;
+
+public interface CatalogResponseCache extends ProductChangeListener {
+    CachedResponse get(String key);
+    long generation();
+    CachedResponse put(String key, long generation, byte[] body, String contentType);
+    void invalidateAll();
+
+    record CachedResponse(byte[] body, byte[] gzipBody, String contentType, String etag) {
+    }
+}
@@ -0,0 +1,11 @@
+package product.management.electronic.services;
+
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+
+public interface DailyRevenueService {
+    void recordTransition(Order order, OrderStatus previousOrderStatus, PaymentStatus previousPaymentStatus);
+
+    void rebuild();
+}
@@ -0,0 +1,11 @@
+package product.management.electronic.services;
+
+public interface EmailOutboxService {
+    void enqueue(String to, String subject, String htmlBody);
+
+    void poll();
+
+    int deliverDue();
+
+    long getPendingCount();
+}
@@ -0,0 +1,13 @@
+package product.management.electronic.services;
+
+import product.management.electronic.entities.OrderItem;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface HotStockService {
+    boolean isHot(UUID productId);
+    void reserve(Collection<OrderItem> orderItems);
+    void setHotSku(UUID productId, boolean enabled);
+    void flush();
+}
@@ -0,0 +1,9 @@
+package product.management.electronic.services;
+
+import product.management.electronic.entities.OrderItem;
+
+import java.util.Collection;
+
+public interface InventoryService {
+    void reserve(Collection<OrderItem> orderItems);
+}
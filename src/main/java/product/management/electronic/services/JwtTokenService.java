@@ -1,6 +1,8 @@
 package product.management.electronic.services;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+
 public interface JwtTokenService {
     String createToken(String userName);
 
@@ -11,4 +13,6 @@ public interface JwtTokenService {
     boolean verifyExpiration(String authToken);
 
     boolean isValidToken(String token, UserDetails userDetails);
+
+    TokenClaimsDto verifyToken(String token);
 }
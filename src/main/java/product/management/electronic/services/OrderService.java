@@ -7,7 +7,9 @@ import product.management.electronic.dto.Order.OrderDto;
 import product.management.electronic.dto.Order.UpdateOrderDto;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.response.ScrollResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +18,7 @@ public interface OrderService {
     OrderDto updateOrderStatus(UUID orderId, UpdateOrderDto request);
 
     List<OrderDto> getAll(OrderStatus orderStatus, PaymentStatus paymentStatus, int page, int size, boolean sort, String sortBy);
-    Page<OrderDto> getOrdersByUserId(UUID userId, OrderStatus orderStatus, PaymentStatus paymentStatus, int page, int size, String sortBy, String direction);
+    ScrollResponse<OrderDto> scrollAll(OrderStatus orderStatus, PaymentStatus paymentStatus, String cursor, int size, boolean sort, String sortBy);
+    Page<OrderDto> getOrdersByUserId(UUID userId, OrderStatus orderStatus, PaymentStatus paymentStatus, LocalDate startDate, LocalDate endDate, int page, int size, String sortBy, String direction);
 
 }
@@ -0,0 +1,13 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+
+import java.util.Collection;
+
+public interface PaymentIngestionService {
+    boolean offer(Collection<PaymentTransactionDto> transactions);
+
+    void pollSources();
+
+    int getQueueSize();
+}
@@ -0,0 +1,9 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+
+import java.util.Collection;
+
+public interface PaymentReconciliationService {
+    int reconcile(Collection<PaymentTransactionDto> transactions);
+}
@@ -0,0 +1,15 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+
+import java.util.List;
+
+public interface PaymentSource {
+    String getName();
+
+    long getPollIntervalMillis();
+
+    List<PaymentTransactionDto> poll() throws Exception;
+
+    void acknowledge();
+}
@@ -0,0 +1,14 @@
+package product.management.electronic.services;
+
+import product.management.electronic.entities.Product;
+
+import java.util.UUID;
+
+public interface ProductChangeListener {
+    void onProductSaved(Product product);
+
+    void onProductDeleted(UUID productId);
+
+    default void onStockChanged(UUID productId, int quantity) {
+    }
+}
@@ -0,0 +1,11 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Product.ProductDto;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface ProductDetailCache extends ProductChangeListener {
+    ProductDto get(UUID productId, Function<UUID, ProductDto> loader);
+    void evict(UUID productId);
+}
@@ -0,0 +1,15 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Product.ProductFacetsDto;
+import product.management.electronic.dto.Product.ProductFilterDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductFacetService extends ProductChangeListener {
+    FacetPage browse(ProductFilterDto filter, int page, int size);
+    void rebuild();
+
+    record FacetPage(List<UUID> productIds, long totalItems, ProductFacetsDto facets) {
+    }
+}
@@ -0,0 +1,14 @@
+package product.management.electronic.services;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductSearchService extends ProductChangeListener {
+    List<UUID> search(String query);
+
+    boolean canSortBy(String property);
+
+    List<UUID> search(String query, String sortBy);
+
+    void rebuild();
+}
@@ -2,9 +2,15 @@ package product.management.electronic.services;
 
 import org.springframework.web.multipart.MultipartFile;
 import product.management.electronic.dto.Product.AddProductDto;
+import product.management.electronic.dto.Product.ProductBrowseDto;
 import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.dto.Product.ProductFilterDto;
 import product.management.electronic.entities.Product;
+import product.management.electronic.enums.ExportFormat;
+import product.management.electronic.response.ScrollResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -13,6 +19,8 @@ public interface ProductService {
     ProductDto addProduct(AddProductDto addProductDto);
     List<ProductDto> getProducts(int page, int size, boolean sort, String sortBy);
     List<ProductDto> getByName(String name, int page, int size, boolean sort, String sortBy);
+    ProductBrowseDto browseProducts(ProductFilterDto filter, int page, int size);
+    ScrollResponse<ProductDto> scrollProducts(String name, String cursor, int size, boolean sort, String sortBy);
     ProductDto updateProduct(UUID productId, AddProductDto addProductDto);
     void deleteById(UUID id);
     ProductDto getById(UUID uuid);
@@ -20,4 +28,5 @@ public interface ProductService {
     Map<UUID, Product> getAll(List<UUID> productIds);
     ProductDto updateProductImages(UUID productId, MultipartFile thumbnail, List<MultipartFile> images);
     void saveProduct(Product product);
+    void exportProducts(ExportFormat format, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package product.management.electronic.services;
+
+import java.util.List;
+
+public interface ProductSuggestService {
+    List<String> suggest(String prefix, int limit);
+
+    void rebuild();
+}
@@ -10,7 +10,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 public interface StatisticsService {
-    List<ProductSalesDto> getTopSellingProducts(LocalDate startDate, LocalDate endDate);
+    List<ProductSalesDto> getTopSellingProducts(LocalDate startDate, LocalDate endDate, int limit);
     List<RevenueByDateDto> getRevenueByDate(LocalDate nowDay);
     RevenueWeekSummaryDto getRevenueByWeek(int week);
     RevenueMonthSummaryDto getRevenueByMonth(int month);
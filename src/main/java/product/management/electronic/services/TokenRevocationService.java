@@ -0,0 +1,9 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+
+public interface TokenRevocationService {
+    boolean isRevoked(TokenClaimsDto claims);
+
+    void revokeAllFor(String username);
+}
@@ -0,0 +1,9 @@
+package product.management.electronic.services;
+
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+
+import java.util.function.Function;
+
+public interface VerifiedTokenCache {
+    TokenClaimsDto get(String token, Function<String, TokenClaimsDto> verifier);
+}
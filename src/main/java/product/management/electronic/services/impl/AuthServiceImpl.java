@@ -13,6 +13,7 @@ import product.management.electronic.repository.UserRepository;
 import product.management.electronic.response.ApiResponse;
 import product.management.electronic.services.AuthService;
 import product.management.electronic.services.JwtTokenService;
+import product.management.electronic.services.TokenRevocationService;
 import product.management.electronic.services.UserService;
 
 import static product.management.electronic.constants.MessageConstant.RESOURCE_NOT_FOUND;
@@ -26,6 +27,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public ApiResponse<LoginDto> login(AuthenticationDto authenticationDto) {
         User user = userRepository.findByUsername(authenticationDto.getUsername())
@@ -58,6 +60,7 @@ public class AuthServiceImpl implements AuthService {
             }
             user.setRefreshToken(null);
             userService.save(user);
+            tokenRevocationService.revokeAllFor(user.getUsername());
         }
     }
 
@@ -2,26 +2,42 @@ package product.management.electronic.services.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import product.management.electronic.entities.CartItem;
 import product.management.electronic.entities.OrderItem;
 import product.management.electronic.repository.CartItemRepository;
+import product.management.electronic.repository.CartRepository;
 import product.management.electronic.services.CartItemService;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class CartItemServiceImpl implements CartItemService {
     private final CartItemRepository cartItemRepository;
+    private final CartRepository cartRepository;
     @Override
     public List<CartItem> findUserById(UUID id) {
         return cartItemRepository.findUserById(id);
     }
 
     @Override
+    @Transactional
     public void deleteAll(List<CartItem> cartItems) {
-        cartItemRepository.deleteAll(cartItems);
+        cartItemRepository.deleteAllInBatch(cartItems);
+        Map<UUID, Integer> quantityByCart = new HashMap<>();
+        Map<UUID, BigDecimal> amountByCart = new HashMap<>();
+        for (CartItem cartItem : cartItems) {
+            UUID cartId = cartItem.getCart().getId();
+            quantityByCart.merge(cartId, cartItem.getQuantity(), Integer::sum);
+            amountByCart.merge(cartId, BigDecimal.valueOf(cartItem.getTotalPrice()), BigDecimal::add);
+        }
+        quantityByCart.forEach((cartId, quantity) ->
+                cartRepository.adjustSummary(cartId, -quantity, amountByCart.get(cartId).negate()));
     }
 
     @Override
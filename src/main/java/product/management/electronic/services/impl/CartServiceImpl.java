@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import product.management.electronic.dto.Cart.CartDto;
 import product.management.electronic.dto.Cart.CartItemAddDto;
+import product.management.electronic.dto.Cart.CartSummaryDto;
 import product.management.electronic.dto.Cart.UpdateCartDto;
 import product.management.electronic.entities.Cart;
 import product.management.electronic.entities.CartItem;
@@ -12,12 +13,14 @@ import product.management.electronic.entities.Product;
 import product.management.electronic.entities.User;
 import product.management.electronic.exceptions.ResourceNotFoundException;
 import product.management.electronic.mapper.CartMapper;
+import product.management.electronic.repository.CartItemRepository;
 import product.management.electronic.repository.CartRepository;
 import product.management.electronic.services.CartService;
 import product.management.electronic.services.ProductService;
 import product.management.electronic.services.UserService;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +34,7 @@ import static product.management.electronic.constants.MessageConstant.*;
 public class CartServiceImpl implements CartService {
     private final UserService userService;
     private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
     private final ProductService productService;
     private final CartMapper cartMapper;
 
@@ -38,50 +42,44 @@ public class CartServiceImpl implements CartService {
     @Override
     public CartDto addToCart(CartItemAddDto request) {
         User user = userService.getUserId(request.getUserId());
-        Cart cart = cartRepository.findByUsers(user).orElseGet(() -> {
+        Cart cart = cartRepository.findLockedByUsers(user).orElseGet(() -> {
             Cart newCart = new Cart();
             newCart.setUsers(user);
             return cartRepository.save(newCart);
         });
-        Optional<CartItem> existingItem = cart.getItems().stream().filter(item -> item.getProduct().getId().equals(request.getProductId())).findFirst();
         Product product = productService.getProductById(request.getProductId());
         if (product.getQuantity() < request.getQuantity()) {
             throw new ResourceNotFoundException(PRODUCT_NOT_ENOUGH);
         }
 
+        Optional<CartItem> existingItem = cartItemRepository.findByCartIdAndProductId(cart.getId(), product.getId());
+        BigDecimal lineTotal;
         if (existingItem.isPresent()) {
             CartItem cartItem = existingItem.get();
+            BigDecimal previousTotal = BigDecimal.valueOf(cartItem.getTotalPrice());
             cartItem.setQuantity(cartItem.getQuantity() + request.getQuantity());
-            cartItem.setTotalPrice(cartItem.getQuantity() * cartItem.getUnitPrice());
+            lineTotal = BigDecimal.valueOf(cartItem.getUnitPrice()).multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+            cartItem.setTotalPrice(lineTotal.doubleValue());
+            adjustSummary(cart, request.getQuantity(), lineTotal.subtract(previousTotal));
         } else {
-            CartItem newItem = new CartItem();
-            newItem.setCart(cart);
-            newItem.setProduct(product);
-            newItem.setNameProduct(product.getName());
-            newItem.setThumbnail(product.getThumbnail());
-            newItem.setQuantity(request.getQuantity());
-            BigDecimal unitPrice = product.getPrice();
-            BigDecimal quantity = new BigDecimal(request.getQuantity());
-            BigDecimal totalPriceBigDecimal = unitPrice.multiply(quantity);
-            double totalPrice = totalPriceBigDecimal.doubleValue();
-            newItem.setUnitPrice(unitPrice.doubleValue());
-            newItem.setTotalPrice(totalPrice);
-            cart.getItems().add(newItem);
+            CartItem newItem = newCartItem(cart, product, request.getQuantity());
+            cartItemRepository.save(newItem);
+            adjustSummary(cart, request.getQuantity(), BigDecimal.valueOf(newItem.getTotalPrice()));
         }
-        return cartMapper.toCartDTO(cartRepository.save(cart));
+        return cartMapper.toCartDTO(cart, cartItemRepository.findAllByCartId(cart.getId()));
     }
 
+    @Transactional
+    @Override
     public CartDto updateCart(UUID cartId, List<UpdateCartDto> cartItemRequests) {
-        Cart cart = cartRepository.findById(cartId)
+        Cart cart = cartRepository.findLockedById(cartId)
                 .orElseThrow(() -> new ResourceNotFoundException(CART_NOT_FOUND + cartId));
 
-        Map<UUID, UpdateCartDto> requestsByProductId = cartItemRequests.stream()
-                .collect(Collectors.toMap(UpdateCartDto::getProductId, item -> item));
         List<UUID> productIds = cartItemRequests.stream()
                 .map(UpdateCartDto::getProductId)
                 .collect(Collectors.toList());
         Map<UUID, Product> productsMap = productService.getAll(productIds);
-        Map<UUID, CartItem> existingItemsByProductId = cart.getItems().stream()
+        Map<UUID, CartItem> existingItemsByProductId = cartItemRepository.findAllByCartIdAndProductIdIn(cartId, productIds).stream()
                 .collect(Collectors.toMap(item -> item.getProduct().getId(), item -> item));
         for (UpdateCartDto request : cartItemRequests) {
             UUID productId = request.getProductId();
@@ -93,38 +91,60 @@ public class CartServiceImpl implements CartService {
             CartItem cartItem = existingItemsByProductId.get(productId);
 
             if (cartItem != null) {
+                BigDecimal previousTotal = BigDecimal.valueOf(cartItem.getTotalPrice());
+                int previousQuantity = cartItem.getQuantity();
                 if (request.getQuantity() <= 0) {
-                    cart.getItems().remove(cartItem);
+                    cartItemRepository.delete(cartItem);
+                    existingItemsByProductId.remove(productId);
+                    adjustSummary(cart, -previousQuantity, previousTotal.negate());
                 } else {
+                    BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(request.getQuantity()));
                     cartItem.setQuantity(request.getQuantity());
                     cartItem.setUnitPrice(product.getPrice().doubleValue());
-                    cartItem.setTotalPrice(product.getPrice().multiply(new BigDecimal(request.getQuantity())).doubleValue());
+                    cartItem.setTotalPrice(lineTotal.doubleValue());
+                    adjustSummary(cart, request.getQuantity() - previousQuantity, lineTotal.subtract(previousTotal));
                 }
             } else if (request.getQuantity() > 0) {
-                CartItem newItem = new CartItem();
-                newItem.setCart(cart);
-                newItem.setProduct(product);
-                newItem.setNameProduct(product.getName());
-                newItem.setThumbnail(product.getThumbnail());
-                newItem.setQuantity(request.getQuantity());
-                newItem.setUnitPrice(product.getPrice().doubleValue());
-                newItem.setTotalPrice(product.getPrice().multiply(new BigDecimal(request.getQuantity())).doubleValue());
-
-                cart.getItems().add(newItem);
+                CartItem newItem = newCartItem(cart, product, request.getQuantity());
+                cartItemRepository.save(newItem);
+                existingItemsByProductId.put(productId, newItem);
+                adjustSummary(cart, request.getQuantity(), BigDecimal.valueOf(newItem.getTotalPrice()));
             }
         }
-        Cart updatedCart = cartRepository.save(cart);
-        return cartMapper.toCartDTO(updatedCart);
+        return cartMapper.toCartDTO(cart, cartItemRepository.findAllByCartId(cartId));
     }
-  
-   @Override
+
+    @Override
     public CartDto getCartByUserId(UUID userId) {
-       Cart cart = cartRepository.findByUsers(userService.getUserId(userId)).orElseThrow(() -> new ResourceNotFoundException(CART_NOT_FOUND));
-        return cartMapper.toCartDTO(cart);
+        Cart cart = cartRepository.findByUsers(userService.getUserId(userId)).orElseThrow(() -> new ResourceNotFoundException(CART_NOT_FOUND));
+        return cartMapper.toCartDTO(cart, cartItemRepository.findAllByCartId(cart.getId()));
+    }
+
+    @Override
+    public CartSummaryDto getCartSummaryByUserId(UUID userId) {
+        Cart cart = cartRepository.findByUsers(userService.getUserId(userId)).orElseThrow(() -> new ResourceNotFoundException(CART_NOT_FOUND));
+        return cartMapper.toCartSummaryDTO(cart);
     }
 
     @Override
     public Cart findUser(UUID id) {
         return cartRepository.findByUsers(userService.getUserId(id)).orElseThrow(() -> new ResourceNotFoundException(USER_NOTFOUND));
     }
+
+    private CartItem newCartItem(Cart cart, Product product, int quantity) {
+        CartItem newItem = new CartItem();
+        newItem.setCart(cart);
+        newItem.setProduct(product);
+        newItem.setNameProduct(product.getName());
+        newItem.setThumbnail(product.getThumbnail());
+        newItem.setQuantity(quantity);
+        newItem.setUnitPrice(product.getPrice().doubleValue());
+        newItem.setTotalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)).doubleValue());
+        return newItem;
+    }
+
+    private void adjustSummary(Cart cart, int quantityDelta, BigDecimal amountDelta) {
+        cart.setItemCount(cart.getItemCount() + quantityDelta);
+        cart.setSubtotal(cart.getSubtotal().add(amountDelta).setScale(2, RoundingMode.HALF_UP));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import product.management.electronic.entities.Product;
+import product.management.electronic.services.CatalogResponseCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogResponseCacheImpl implements CatalogResponseCache {
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong generation = new AtomicLong();
+    @Value("${catalog.cache.max-size:1000}")
+    private long maxSize;
+    @Value("${catalog.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+    private Cache<String, CachedResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "catalog.response");
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public CachedResponse put(String key, long loadedAt, byte[] body, String contentType) {
+        CachedResponse response = new CachedResponse(body, gzip(body), contentType,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        if (generation.get() == loadedAt) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        invalidateAll();
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        invalidateAll();
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
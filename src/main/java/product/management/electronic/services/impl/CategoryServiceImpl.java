@@ -8,6 +8,7 @@ import product.management.electronic.exceptions.BadRequestException;
 import product.management.electronic.exceptions.ResourceNotFoundException;
 import product.management.electronic.mapper.CategoryMapper;
 import product.management.electronic.repository.CategoryRepository;
+import product.management.electronic.services.CatalogResponseCache;
 import product.management.electronic.services.CategoryService;
 import product.management.electronic.dto.Category.*;
 import java.util.List;
@@ -20,10 +21,13 @@ import static product.management.electronic.constants.MessageConstant.*;
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CatalogResponseCache catalogResponseCache;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+                               CatalogResponseCache catalogResponseCache) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     @Override
@@ -56,6 +60,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
         Category category = categoryMapper.toCreateEntity(addCategoryDto);
         categoryRepository.save(category);
+        catalogResponseCache.invalidateAll();
     }
 
     @Override
@@ -71,6 +76,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
         categoryMapper.toUpdateEntity(updateCategoryDto, category);
         categoryRepository.save(category);
+        catalogResponseCache.invalidateAll();
     }
     public Category getCategoryById(UUID categoryId) {
         return categoryRepository.findById(categoryId)
@@ -84,5 +90,6 @@ public class CategoryServiceImpl implements CategoryService {
             throw new ResourceNotFoundException(CATEGORY_NOT_FOUND);
         }
         categoryRepository.delete(optionalCategory.get());
+        catalogResponseCache.invalidateAll();
     }
 }
@@ -0,0 +1,67 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.entities.DailyRevenue;
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.DailyRevenueRepository;
+import product.management.electronic.repository.StatisticsRepository;
+import product.management.electronic.services.DailyRevenueService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyRevenueServiceImpl implements DailyRevenueService {
+    private final DailyRevenueRepository dailyRevenueRepository;
+    private final StatisticsRepository statisticsRepository;
+
+    @Override
+    @Transactional
+    public void recordTransition(Order order, OrderStatus previousOrderStatus, PaymentStatus previousPaymentStatus) {
+        boolean wasCounted = isCounted(previousOrderStatus, previousPaymentStatus);
+        boolean isCounted = isCounted(order.getOrderStatus(), order.getPaymentStatus());
+        if (wasCounted == isCounted || order.getCreatedAt() == null) {
+            return;
+        }
+        int sign = isCounted ? 1 : -1;
+        long itemCount = order.getItemCount();
+        BigDecimal revenue = order.getTotalAmount();
+        dailyRevenueRepository.addToDay(
+                order.getCreatedAt().toLocalDate(),
+                sign,
+                sign * itemCount,
+                sign > 0 ? revenue : revenue.negate()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        dailyRevenueRepository.deleteAllInBatch();
+        List<DailyRevenue> rows = statisticsRepository.aggregateCompletedRevenueByDay().stream()
+                .map(view -> new DailyRevenue(view.getRevenueDate(), view.getOrderCount(), view.getItemCount(), view.getRevenue()))
+                .toList();
+        dailyRevenueRepository.saveAll(rows);
+        log.info("Rebuilt daily revenue rollup with {} days", rows.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRollup() {
+        if (dailyRevenueRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private boolean isCounted(OrderStatus orderStatus, PaymentStatus paymentStatus) {
+        return orderStatus == OrderStatus.COMPLETED && paymentStatus == PaymentStatus.PAID;
+    }
+}
@@ -0,0 +1,207 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import product.management.electronic.entities.EmailOutbox;
+import product.management.electronic.enums.EmailOutboxStatus;
+import product.management.electronic.repository.EmailOutboxRepository;
+import product.management.electronic.services.EmailOutboxService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong pending = new AtomicLong();
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+    @Value("${mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+    @Value("${mail.outbox.backoff-base-ms:30000}")
+    private long backoffBaseMillis;
+    @Value("${mail.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMillis;
+    @Value("${mail.outbox.lease-ms:300000}")
+    private long leaseMillis;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(workers),
+                new ThreadFactoryBuilder().setNameFormat("mail-outbox-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.DiscardPolicy());
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("mail.outbox.dispatch.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(String to, String subject, String htmlBody) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setBody(htmlBody);
+        email.setStatus(EmailOutboxStatus.PENDING);
+        email.setNextAttemptAt(now);
+        email.setCreatedAt(now);
+        emailOutboxRepository.save(email);
+        pending.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch();
+                }
+            });
+        } else {
+            dispatch();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        pending.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        if (pending.get() > 0) {
+            dispatch();
+        }
+    }
+
+    @Override
+    public int deliverDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+        List<EmailOutbox> due = emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        for (EmailOutbox email : due) {
+            if (emailOutboxRepository.claim(email.getId(), EmailOutboxStatus.PENDING, email.getNextAttemptAt(), leaseUntil) != 1) {
+                continue;
+            }
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                markFailed(email, e, true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return due.size();
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+        } catch (MailException e) {
+            failures = new HashMap<>();
+            for (MimeMessage message : messages.keySet()) {
+                failures.put(message, e);
+            }
+        }
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                markSent(entry.getValue());
+            } else {
+                markFailed(entry.getValue(), failure, false);
+            }
+        }
+        return due.size();
+    }
+
+    @Override
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    private void dispatch() {
+        executor.execute(() -> {
+            try {
+                while (deliverDue() == batchSize && !Thread.currentThread().isInterrupted()) {
+                    log.debug("Mail outbox batch was full, delivering the next one");
+                }
+            } catch (Exception e) {
+                log.error("Error while delivering outbox emails: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return message;
+    }
+
+    private void markSent(EmailOutbox email) {
+        email.setStatus(EmailOutboxStatus.SENT);
+        email.setSentAt(LocalDateTime.now());
+        email.setLastError(null);
+        email.setBody(StringUtils.EMPTY);
+        emailOutboxRepository.save(email);
+        pending.updateAndGet(count -> Math.max(0, count - 1));
+        meterRegistry.counter("mail.outbox.sent").increment();
+    }
+
+    private void markFailed(EmailOutbox email, Exception error, boolean permanent) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(StringUtils.abbreviate(String.valueOf(error.getMessage()), MAX_ERROR_LENGTH));
+        if (permanent || attempts >= maxAttempts) {
+            email.setStatus(EmailOutboxStatus.FAILED);
+            email.setBody(StringUtils.EMPTY);
+            pending.updateAndGet(count -> Math.max(0, count - 1));
+            meterRegistry.counter("mail.outbox.failed").increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), attempts, error.getMessage());
+        } else {
+            long backoff = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempts - 1, 20));
+            email.setNextAttemptAt(LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS));
+            meterRegistry.counter("mail.outbox.retried").increment();
+            log.warn("Email {} to {} failed (attempt {}), retrying in {} ms: {}", email.getId(), email.getRecipient(), attempts, backoff, error.getMessage());
+        }
+        emailOutboxRepository.save(email);
+    }
+}
@@ -7,27 +7,46 @@ import com.google.api.services.sheets.v4.Sheets;
 import com.google.api.services.sheets.v4.model.ValueRange;
 import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.GoogleCredentials;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import product.management.electronic.enums.PaymentStatus;
-import product.management.electronic.repository.OrderRepository;
+import org.springframework.util.DigestUtils;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.entities.PaymentSheetCursor;
+import product.management.electronic.repository.PaymentSheetCursorRepository;
 import product.management.electronic.services.GoogleSheetPaymentService;
+import product.management.electronic.services.PaymentReconciliationService;
+import product.management.electronic.services.PaymentSource;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class GoogleSheetPaymentServiceImpl implements GoogleSheetPaymentService {
+@ConditionalOnProperty(name = "payment.source.google-sheet.enabled", havingValue = "true", matchIfMissing = true)
+public class GoogleSheetPaymentServiceImpl implements GoogleSheetPaymentService, PaymentSource {
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(?:(.+)!)?([A-Za-z]+)(\\d+)(?::([A-Za-z]+)\\d*)?$");
 
-    private final OrderRepository orderRepository;
-    private final OrderServiceImpl orderService;
+    private final PaymentSheetCursorRepository paymentSheetCursorRepository;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final MeterRegistry meterRegistry;
+    private final Object clientLock = new Object();
+    private volatile Sheets sheetsService;
+    @Value("${google.sheet.credentials-path:credentials.json}")
+    private String credentialsPath;
     @Value("${google.sheet.scope}")
     private String googleSheetScope;
     @Value("${google.sheet.app-name}")
@@ -37,81 +56,139 @@ public class GoogleSheetPaymentServiceImpl implements GoogleSheetPaymentService
     private static final JsonFactory JSON_FACTORY = JacksonFactory.getDefaultInstance();
     @Value("${google.sheet.range}")
     private String range;
-    @Scheduled(fixedRate = 30_000)
+    @Value("${payment.source.google-sheet.poll-interval-ms:5000}")
+    private long pollIntervalMillis;
+    private PaymentSheetCursor pendingCursor;
+
     @Override
-    public void checkPaymentsFromGoogleSheet() {
+    public synchronized void checkPaymentsFromGoogleSheet() {
         try {
-            List<List<Object>> transactions = readTransactions();
+            paymentReconciliationService.reconcile(poll());
+            acknowledge();
+        } catch (Exception e) {
+            log.error("Error while checking Google Sheet payments: {}", e.getMessage(), e);
+        }
+    }
 
-            for (List<Object> row : transactions) {
-                if (row.size() < 8) continue;
+    @Override
+    public String getName() {
+        return "google-sheet:" + spreadsheetId;
+    }
 
-                String paymentContent = row.get(5).toString().trim();
-                double amount;
-                try {
-                    amount = Double.parseDouble(row.get(7).toString());
-                } catch (NumberFormatException e) {
-                    continue;
-                }
-                paymentContent = processPaymentContent(paymentContent);
-                UUID orderId;
-                try {
-                    orderId = UUID.fromString(paymentContent);
-                } catch (IllegalArgumentException e) {
-                    continue;
-                }
-                orderRepository.findById(orderId).ifPresent(order -> {
-                    double calculatedAmount = orderService.calculateTotalAmount(order);
-                    if (order.getPaymentStatus() == PaymentStatus.UNPAID &&
-                            Math.abs(calculatedAmount - amount) < 0.001) {
-                        order.setPaymentStatus(PaymentStatus.PAID);
-                        orderRepository.save(order);
-                    }
-                });
+    @Override
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    @Override
+    public synchronized List<PaymentTransactionDto> poll() throws IOException, GeneralSecurityException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return readNewTransactions();
+        } finally {
+            sample.stop(meterRegistry.timer("payment.sheet.poll"));
+        }
+    }
+
+    private List<PaymentTransactionDto> readNewTransactions() throws IOException, GeneralSecurityException {
+        pendingCursor = null;
+        String sourceKey = spreadsheetId + ":" + range;
+        PaymentSheetCursor cursor = paymentSheetCursorRepository.findById(sourceKey)
+                .orElseGet(() -> new PaymentSheetCursor(sourceKey, 0, null, null));
+
+        int offset = cursor.getLastRowIndex();
+        List<List<Object>> rows = List.of();
+        if (offset > 0) {
+            rows = readTransactions(rangeFrom(offset - 1));
+            if (rows.isEmpty() || !hashRow(rows.get(0)).equals(cursor.getLastRowHash())) {
+                log.warn("Payment sheet {} changed above the last processed row, rescanning", sourceKey);
+                offset = 0;
+            } else {
+                rows = rows.subList(1, rows.size());
+            }
+        }
+        if (offset == 0) {
+            rows = readTransactions(range);
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<PaymentTransactionDto> transactions = new ArrayList<>();
+        for (List<Object> row : rows) {
+            if (row.size() < 8) continue;
+            try {
+                transactions.add(new PaymentTransactionDto(row.get(5).toString().trim(),
+                        new BigDecimal(row.get(7).toString().trim())));
+            } catch (NumberFormatException e) {
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Error while checking Google Sheet payments: {}", e.getMessage(), e);
         }
+        cursor.setLastRowIndex(offset + rows.size());
+        cursor.setLastRowHash(hashRow(rows.get(rows.size() - 1)));
+        cursor.setUpdatedAt(LocalDateTime.now());
+        pendingCursor = cursor;
+        return transactions;
     }
 
-    private List<List<Object>> readTransactions() throws IOException, GeneralSecurityException {
-        try (FileInputStream serviceAccountStream = new FileInputStream("credentials.json")) {
-            GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccountStream)
-                    .createScoped(List.of(googleSheetScope));
-            Sheets sheetsService = new Sheets.Builder(
-                    GoogleNetHttpTransport.newTrustedTransport(),
-                    JSON_FACTORY,
-                    new HttpCredentialsAdapter(credentials)
-            )
-                    .setApplicationName(applicationName)
-                    .build();
-            ValueRange response = sheetsService.spreadsheets().values()
-                    .get(spreadsheetId, range)
-                    .execute();
-
-            return response.getValues() == null ? new ArrayList<>() : response.getValues();
+    @Override
+    public synchronized void acknowledge() {
+        if (pendingCursor != null) {
+            paymentSheetCursorRepository.save(pendingCursor);
+            pendingCursor = null;
         }
     }
 
-    private String processPaymentContent(String paymentContent) {
-        int dashIndex = paymentContent.indexOf('-');
-        if (dashIndex != -1) {
-            paymentContent = paymentContent.substring(0, Math.min(dashIndex, 32));
-        } else {
-            paymentContent = paymentContent.length() > 32 ? paymentContent.substring(0, 32) : paymentContent;
+    private String rangeFrom(int rowOffset) {
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+            return range;
         }
-        if (paymentContent.length() < 32) {
-            return paymentContent;
+        StringBuilder shifted = new StringBuilder();
+        if (matcher.group(1) != null) {
+            shifted.append(matcher.group(1)).append('!');
         }
-        try {
-            StringBuilder formattedUUID = new StringBuilder(paymentContent);
-            formattedUUID.insert(8, '-');
-            formattedUUID.insert(13, '-');
-            formattedUUID.insert(18, '-');
-            formattedUUID.insert(23, '-');
-            return formattedUUID.toString();
-        } catch (Exception e) {
-            return paymentContent;
+        shifted.append(matcher.group(2)).append(Integer.parseInt(matcher.group(3)) + rowOffset);
+        shifted.append(':').append(matcher.group(4) != null ? matcher.group(4) : matcher.group(2));
+        return shifted.toString();
+    }
+
+    private static String hashRow(List<Object> row) {
+        String joined = row.stream().map(String::valueOf).collect(Collectors.joining("\u001F"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<List<Object>> readTransactions(String readRange) throws IOException, GeneralSecurityException {
+        ValueRange response = sheets().spreadsheets().values()
+                .get(spreadsheetId, readRange)
+                .execute();
+        List<List<Object>> values = response.getValues() == null ? new ArrayList<>() : response.getValues();
+        meterRegistry.counter("payment.sheet.rows.scanned").increment(values.size());
+        return values;
+    }
+
+    private Sheets sheets() throws IOException, GeneralSecurityException {
+        Sheets sheets = sheetsService;
+        if (sheets == null) {
+            synchronized (clientLock) {
+                sheets = sheetsService;
+                if (sheets == null) {
+                    GoogleCredentials credentials;
+                    try (FileInputStream serviceAccountStream = new FileInputStream(credentialsPath)) {
+                        credentials = GoogleCredentials.fromStream(serviceAccountStream)
+                                .createScoped(List.of(googleSheetScope));
+                    }
+                    sheets = new Sheets.Builder(
+                            GoogleNetHttpTransport.newTrustedTransport(),
+                            JSON_FACTORY,
+                            new HttpCredentialsAdapter(credentials)
+                    )
+                            .setApplicationName(applicationName)
+                            .build();
+                    sheetsService = sheets;
+                }
+            }
         }
+        return sheets;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import product.management.electronic.entities.OrderItem;
+import product.management.electronic.entities.Product;
+import product.management.electronic.exceptions.ResourceNotFoundException;
+import product.management.electronic.repository.OrderItemRepository;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.repository.projection.PendingStockView;
+import product.management.electronic.repository.projection.ProductQuantityView;
+import product.management.electronic.services.HotStockService;
+import product.management.electronic.services.ProductChangeListener;
+import product.management.electronic.utils.StripedStockCounter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static product.management.electronic.constants.MessageConstant.PRODUCT_NOT_ENOUGH;
+import static product.management.electronic.constants.MessageConstant.PRODUCT_NOT_FOUND;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotStockServiceImpl implements HotStockService, ProductChangeListener {
+    private static final int FLUSH_BATCH_SIZE = 1000;
+    private static final int STRIPES = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final List<ProductChangeListener> productChangeListeners;
+    private final Map<UUID, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> baselines = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isHot(UUID productId) {
+        return counters.containsKey(productId);
+    }
+
+    @Override
+    public void reserve(Collection<OrderItem> orderItems) {
+        Map<StripedStockCounter, Long> acquired = new IdentityHashMap<>();
+        try {
+            for (OrderItem orderItem : orderItems) {
+                StripedStockCounter counter = counters.get(orderItem.getProduct().getId());
+                if (counter == null || !counter.tryAcquire(orderItem.getQuantity())) {
+                    throw new ResourceNotFoundException(PRODUCT_NOT_ENOUGH + orderItem.getProductName());
+                }
+                acquired.merge(counter, (long) orderItem.getQuantity(), Long::sum);
+                orderItem.setStockApplied(false);
+            }
+        } catch (RuntimeException e) {
+            acquired.forEach(StripedStockCounter::release);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        acquired.forEach(StripedStockCounter::release);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    @Transactional
+    public void setHotSku(UUID productId, boolean enabled) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException(PRODUCT_NOT_FOUND));
+        product.setHotSku(enabled);
+        productRepository.save(product);
+        if (enabled) {
+            long quantity = product.getQuantity();
+            long available = quantity - orderItemRepository.sumPendingQuantity(productId);
+            afterCommit(() -> seed(productId, quantity, available));
+        } else {
+            counters.remove(productId);
+            baselines.remove(productId);
+            applyPending();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${inventory.hot-sku.flush-interval-ms:1000}")
+    @Transactional
+    public void flush() {
+        applyPending();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        int applied;
+        do {
+            applied = applyPending();
+        } while (applied == FLUSH_BATCH_SIZE);
+        List<Product> hotProducts = productRepository.findByHotSkuTrue();
+        afterCommit(() -> hotProducts.forEach(product ->
+                seed(product.getId(), product.getQuantity(), product.getQuantity())));
+        log.info("Loaded {} hot SKU stock counters", hotProducts.size());
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        if (product.isHotSku() && counters.containsKey(product.getId())) {
+            long quantity = product.getQuantity();
+            afterCommit(() -> adjust(product.getId(), quantity));
+        }
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        counters.remove(productId);
+        baselines.remove(productId);
+    }
+
+    private void seed(UUID productId, long quantity, long available) {
+        if (counters.putIfAbsent(productId, new StripedStockCounter(STRIPES, available)) == null) {
+            baselines.put(productId, quantity);
+        }
+    }
+
+    private void adjust(UUID productId, long quantity) {
+        StripedStockCounter counter = counters.get(productId);
+        if (counter == null) {
+            return;
+        }
+        synchronized (counter) {
+            Long previous = baselines.put(productId, quantity);
+            if (previous != null) {
+                counter.adjust(quantity - previous);
+            }
+        }
+    }
+
+    private int applyPending() {
+        List<PendingStockView> pending = orderItemRepository.findPendingStock(PageRequest.of(0, FLUSH_BATCH_SIZE));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<UUID> orderItemIds = pending.stream().map(PendingStockView::getId).toList();
+        if (orderItemRepository.markStockApplied(orderItemIds) != orderItemIds.size()) {
+            throw new IllegalStateException("Pending stock was applied concurrently, retrying on next flush");
+        }
+        Map<UUID, Integer> deltas = new TreeMap<>();
+        pending.forEach(view -> deltas.merge(view.getProductId(), view.getQuantity(), Integer::sum));
+        deltas.forEach(productRepository::applyStockDelta);
+        List<ProductQuantityView> remaining = productRepository.findQuantitiesByIdIn(deltas.keySet());
+        afterCommit(() -> deltas.forEach((productId, applied) -> {
+            StripedStockCounter counter = counters.get(productId);
+            if (counter != null) {
+                synchronized (counter) {
+                    baselines.computeIfPresent(productId, (id, baseline) -> baseline - applied);
+                }
+            }
+        }));
+        afterCommit(() -> remaining.forEach(view -> productChangeListeners.forEach(listener ->
+                listener.onStockChanged(view.getProductId(), view.getQuantity().intValue()))));
+        return pending.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
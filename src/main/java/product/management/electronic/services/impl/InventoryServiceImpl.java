@@ -0,0 +1,67 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import product.management.electronic.entities.OrderItem;
+import product.management.electronic.exceptions.ResourceNotFoundException;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.repository.projection.ProductQuantityView;
+import product.management.electronic.services.HotStockService;
+import product.management.electronic.services.InventoryService;
+import product.management.electronic.services.ProductChangeListener;
+
+import java.util.*;
+
+import static product.management.electronic.constants.MessageConstant.PRODUCT_NOT_ENOUGH;
+
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+    private final ProductRepository productRepository;
+    private final HotStockService hotStockService;
+    private final List<ProductChangeListener> productChangeListeners;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Collection<OrderItem> orderItems) {
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        Map<UUID, String> names = new HashMap<>();
+        List<OrderItem> hotItems = new ArrayList<>();
+        for (OrderItem orderItem : orderItems) {
+            if (hotStockService.isHot(orderItem.getProduct().getId())) {
+                hotItems.add(orderItem);
+                continue;
+            }
+            UUID productId = orderItem.getProduct().getId();
+            quantities.merge(productId, orderItem.getQuantity(), Integer::sum);
+            names.putIfAbsent(productId, orderItem.getProductName());
+        }
+        if (!hotItems.isEmpty()) {
+            hotStockService.reserve(hotItems);
+        }
+        if (quantities.isEmpty()) {
+            return;
+        }
+        int updated = productRepository.decrementStock(quantities);
+        List<ProductQuantityView> remaining = productRepository.findQuantitiesByIdIn(quantities.keySet());
+        if (updated != quantities.size()) {
+            String shortProduct = remaining.stream()
+                    .filter(view -> view.getQuantity() < quantities.get(view.getProductId()))
+                    .map(view -> names.get(view.getProductId()))
+                    .findFirst()
+                    .orElse("");
+            throw new ResourceNotFoundException(PRODUCT_NOT_ENOUGH + shortProduct);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remaining.forEach(view -> productChangeListeners.forEach(listener ->
+                        listener.onStockChanged(view.getProductId(), view.getQuantity().intValue())));
+            }
+        });
+    }
+}
@@ -1,27 +1,28 @@
 package product.management.electronic.services.impl;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
 import product.management.electronic.dto.User.UserDto;
 import product.management.electronic.services.JwtTokenService;
+import product.management.electronic.services.TokenRevocationService;
 import product.management.electronic.exceptions.BadRequestException;
 import product.management.electronic.exceptions.ForbiddenException;
-import com.nimbusds.jwt.JWT;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.JWTParser;
+import product.management.electronic.utils.JwtTokenCodec;
 import org.apache.commons.lang3.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.text.ParseException;
+import java.math.BigDecimal;
 import java.time.*;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
@@ -34,8 +35,30 @@ import static product.management.electronic.constants.MessageConstant.*;
 public class JwtTokenServiceImpl implements JwtTokenService {
     @Value("${jwt.secret}")
     private String secret;
-    private static final String JWT_HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+    @Value("${jwt.key-id:}")
+    private String keyId;
+    @Value("${jwt.previous-keys:}")
+    private String previousKeys;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private JwtTokenCodec tokenCodec;
+
+    @PostConstruct
+    public void init() {
+        if (this.secret == null || this.secret.isEmpty()) {
+            throw new IllegalStateException("JWT_SECRET is not configured.");
+        }
+        Map<String, String> previousSecrets = new HashMap<>();
+        for (String entry : StringUtils.split(StringUtils.defaultString(previousKeys), ',')) {
+            String keyIdAndSecret = entry.strip();
+            int separator = keyIdAndSecret.indexOf(':');
+            if (separator <= 0 || separator == keyIdAndSecret.length() - 1) {
+                throw new IllegalStateException("jwt.previous-keys entries must look like <kid>:<secret> (use legacy:<secret> for tokens without a kid)");
+            }
+            previousSecrets.put(keyIdAndSecret.substring(0, separator), keyIdAndSecret.substring(separator + 1));
+        }
+        tokenCodec = new JwtTokenCodec(this.keyId, this.secret, previousSecrets);
+    }
 
     public String createToken(String userName) {
         UserDto user = userService.findByUsername(userName);
@@ -45,72 +68,35 @@ public class JwtTokenServiceImpl implements JwtTokenService {
         payload.put("userName", user.getUsername());
         String role = user.getRoles().isEmpty() ? "USER" : user.getRoles().iterator().next();
         payload.put("role", role);
+        payload.put("roles", user.getRoles());
+        payload.put("iat", BigDecimal.valueOf(Instant.now().toEpochMilli(), 3));
         payload.put("exp", epochSeconds);
         payload.put("jwtId", UUID.randomUUID().toString());
-        String signature = hmacSha256(encode(JWT_HEADER.getBytes()) + "." + encode(payload.toString().getBytes()), this.secret);
-        return encode(JWT_HEADER.getBytes()) + "." + encode(payload.toString().getBytes()) + "." + signature;
+        return tokenCodec.sign(payload);
     }
 
     public String extractUserNameFromJWT(String token) {
-        String username = StringUtils.EMPTY;
-        try {
-            if (verifyExpiration(token)) {
-                JWT jwt = JWTParser.parse(token);
-                JWTClaimsSet claimsSet = jwt.getJWTClaimsSet();
-                username = (String) claimsSet.getClaim("userName");
-            }
-        } catch (ParseException e) {
-            throw new BadRequestException(TOKEN_INVALID);
-        }
-        return username;
+        JSONObject payload = decode(token);
+        return isUnexpired(payload) ? payload.optString("userName", StringUtils.EMPTY) : StringUtils.EMPTY;
     }
 
     public String createRefreshToken(String token) {
-        String userName;
-        if (!verifyExpiration(token)) {
+        JSONObject payload = decode(token);
+        if (!isUnexpired(payload)) {
             throw new ForbiddenException(REFRESH_TOKEN_EXPIRED);
         }
-        try {
-            JWT jwt = JWTParser.parse(token);
-            JWTClaimsSet claimsSet = jwt.getJWTClaimsSet();
-            userName = (String) claimsSet.getClaim("userName");
-        } catch (ParseException e) {
+        TokenClaimsDto claims = toClaims(payload);
+        if (claims == null) {
             throw new BadRequestException(FIELD_INVALID);
         }
-        return refreshToken(userName);
-    }
-
-    public boolean verifyExpiration(String authToken) {
-        try {
-            JWT jwt = JWTParser.parse(authToken);
-            JWTClaimsSet claimsSet = jwt.getJWTClaimsSet();
-            Instant expiryTime = claimsSet.getExpirationTime().toInstant();
-            Instant nowVietnam = ZonedDateTime.now(ZoneId.of("Asia/Ho_Chi_Minh")).toInstant();
-            return expiryTime.isAfter(nowVietnam);
-        } catch (ParseException e) {
-            throw new BadRequestException(TOKEN_INVALID);
+        if (tokenRevocationService.isRevoked(claims)) {
+            throw new ForbiddenException(REFRESH_TOKEN_REVOKED);
         }
-
+        return refreshToken(claims.getUsername());
     }
 
-    public static String encode(byte[] bytes) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
-    }
-
-    public String hmacSha256(String data, String secret) {
-        if (secret == null || secret.isEmpty()) {
-            throw new IllegalArgumentException("Secret key cannot be null or empty");
-        }
-        try {
-            byte[] hash = secret.getBytes(StandardCharsets.UTF_8);
-            Mac sha256Hmac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKey = new SecretKeySpec(hash, "HmacSHA256");
-            sha256Hmac.init(secretKey);
-            byte[] signedBytes = sha256Hmac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return encode(signedBytes);
-        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
-            throw new IllegalStateException("HMAC SHA256 algorithm error", ex);
-        }
+    public boolean verifyExpiration(String authToken) {
+        return isUnexpired(decode(authToken));
     }
 
     public String refreshToken(String userName) {
@@ -122,20 +108,57 @@ public class JwtTokenServiceImpl implements JwtTokenService {
         payload.put("userName", user.getUsername());
         String role = user.getRoles().isEmpty() ? "USER" : user.getRoles().iterator().next();
         payload.put("role", role);
+        payload.put("roles", user.getRoles());
+        payload.put("iat", BigDecimal.valueOf(Instant.now().toEpochMilli(), 3));
         payload.put("exp", epochSeconds);
-        if (this.secret == null || this.secret.isEmpty()) {
-            throw new IllegalStateException("JWT_SECRET is not configured.");
+        return tokenCodec.sign(payload);
+    }
+
+    public boolean isValidToken(String token, UserDetails userDetails) {
+        TokenClaimsDto claims = verifyToken(token);
+        return claims != null && userDetails.getUsername().equals(claims.getUsername());
+    }
+
+    public TokenClaimsDto verifyToken(String token) {
+        if (StringUtils.isBlank(token)) {
+            return null;
+        }
+        JSONObject payload = tokenCodec.verify(token);
+        if (payload == null || !isUnexpired(payload)) {
+            return null;
         }
-        String header = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
-        String encodedHeader = encode(header.getBytes());
-        String encodedPayload = encode(payload.toString().getBytes());
-        String signature = hmacSha256(encodedHeader + "." + encodedPayload, this.secret);
+        return toClaims(payload);
+    }
+
+    private TokenClaimsDto toClaims(JSONObject payload) {
+        try {
+            String userName = payload.optString("userName", null);
+            if (StringUtils.isBlank(userName)) {
+                return null;
+            }
+            List<String> roles = new ArrayList<>();
+            JSONArray roleArray = payload.optJSONArray("roles");
+            if (roleArray != null) {
+                roleArray.forEach(role -> roles.add(role.toString()));
+            } else if (payload.has("role")) {
+                roles.add(payload.getString("role"));
+            }
+            return new TokenClaimsDto(userName, roles, payload.optString("jwtId", null),
+                    payload.optBigDecimal("iat", BigDecimal.ZERO).movePointRight(3).longValue(), payload.optLong("exp", 0));
+        } catch (JSONException e) {
+            return null;
+        }
+    }
 
-        return encodedHeader + "." + encodedPayload + "." + signature;
+    private JSONObject decode(String token) {
+        JSONObject payload = StringUtils.isBlank(token) ? null : tokenCodec.verify(token);
+        if (payload == null) {
+            throw new BadRequestException(TOKEN_INVALID);
+        }
+        return payload;
     }
 
-    public boolean isValidToken(String token, UserDetails userDetails) {
-        String userName = extractUserNameFromJWT(token);
-        return userName.equals(userDetails.getUsername()) && verifyExpiration(token);
+    private boolean isUnexpired(JSONObject payload) {
+        return payload.optLong("exp", 0) > Instant.now().getEpochSecond();
     }
 }
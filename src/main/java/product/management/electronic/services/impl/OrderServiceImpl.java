@@ -2,6 +2,7 @@ package product.management.electronic.services.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import product.management.electronic.dto.Order.OrderCreateRequestDto;
@@ -13,16 +14,21 @@ import product.management.electronic.enums.PaymentStatus;
 import product.management.electronic.exceptions.ResourceNotFoundException;
 import product.management.electronic.mapper.OrderMapper;
 import product.management.electronic.repository.OrderRepository;
+import product.management.electronic.repository.specification.OrderSpecifications;
+import product.management.electronic.response.ScrollResponse;
 import product.management.electronic.services.CartItemService;
 import product.management.electronic.services.CartService;
+import product.management.electronic.services.DailyRevenueService;
+import product.management.electronic.services.InventoryService;
 import product.management.electronic.services.OrderService;
-import product.management.electronic.services.ProductService;
+import product.management.electronic.utils.ScrollTokenCodec;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static product.management.electronic.constants.MessageConstant.*;
 
@@ -34,9 +40,11 @@ public class OrderServiceImpl implements OrderService {
     private final CartService cartService;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
-    private final ProductService productService;
+    private final InventoryService inventoryService;
+    private final DailyRevenueService dailyRevenueService;
 
     @Override
+    @Transactional
     public OrderDto createOrderFromCart(OrderCreateRequestDto dto, UUID userId) {
         Cart cart = cartService.findUser(userId);
         if (cart == null) throw new ResourceNotFoundException(CART_NOT_FOUND + userId);
@@ -53,9 +61,6 @@ public class OrderServiceImpl implements OrderService {
 
         List<OrderItem> orderItems = new ArrayList<>();
         for (CartItem cartItem : cartItems) {
-            if (cartItem.getProduct().getQuantity() < cartItem.getQuantity()) {
-                throw new ResourceNotFoundException(PRODUCT_NOT_ENOUGH + cartItem.getProduct().getName());
-            }
             OrderItem orderItem = new OrderItem();
             orderItem.setProduct(cartItem.getProduct());
             orderItem.setProductName(cartItem.getProduct().getName());
@@ -65,20 +70,26 @@ public class OrderServiceImpl implements OrderService {
             orderItem.setTotalPrice(cartItem.getTotalPrice());
             orderItem.setOrder(order);
             orderItems.add(orderItem);
-            Product product = cartItem.getProduct();
-            product.setQuantity(product.getQuantity() - cartItem.getQuantity());
-            productService.saveProduct(product);
         }
+        inventoryService.reserve(orderItems);
         order.setOrderDetails(orderItems);
+        order.setTotalAmount(orderItems.stream()
+                .map(orderItem -> BigDecimal.valueOf(orderItem.getTotalPrice()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP));
+        order.setItemCount(orderItems.stream().mapToInt(OrderItem::getQuantity).sum());
         orderRepository.save(order);
         cartItemService.deleteAll(cartItems);
         return orderMapper.toDto(order);
     }
 
     @Override
+    @Transactional
     public OrderDto updateOrderStatus(UUID orderId, UpdateOrderDto request) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findDetailById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND));
+        OrderStatus previousOrderStatus = order.getOrderStatus();
+        PaymentStatus previousPaymentStatus = order.getPaymentStatus();
         OrderStatus newOrderStatus = request.getOrderStatus();
         PaymentStatus newPaymentStatus = request.getPaymentStatus();
         if (newOrderStatus != null) {
@@ -88,10 +99,12 @@ public class OrderServiceImpl implements OrderService {
             order.setPaymentStatus(newPaymentStatus);
         }
         Order updatedOrder = orderRepository.save(order);
+        dailyRevenueService.recordTransition(updatedOrder, previousOrderStatus, previousPaymentStatus);
         return orderMapper.toDto(updatedOrder);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> getAll(OrderStatus orderStatus, PaymentStatus paymentStatus, int page, int size, boolean sort, String sortBy) {
         Pageable pageable;
         if (sort) {
@@ -105,49 +118,40 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public Page<OrderDto> getOrdersByUserId(UUID userId, OrderStatus orderStatus, PaymentStatus paymentStatus, int page, int size, String sortBy, String direction) {
+    @Transactional(readOnly = true)
+    public ScrollResponse<OrderDto> scrollAll(OrderStatus orderStatus, PaymentStatus paymentStatus, String cursor, int size, boolean sort, String sortBy) {
+        Sort sorting = sort
+                ? Sort.by(validateSortProperty(sortBy)).descending().and(Sort.by("id").descending())
+                : Sort.by("id").ascending();
+        List<String> keys = sorting.stream().map(Sort.Order::getProperty).toList();
+        KeysetScrollPosition position = ScrollTokenCodec.decode(cursor, keys);
+        Window<Order> window = orderRepository.findAllByOrderStatusAndPaymentStatus(
+                orderStatus, paymentStatus, position, sorting, Limit.of(size));
+        return new ScrollResponse<>(
+                orderMapper.todtoList(window.getContent()),
+                ScrollTokenCodec.nextCursor(window),
+                window.hasNext()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderDto> getOrdersByUserId(UUID userId, OrderStatus orderStatus, PaymentStatus paymentStatus, LocalDate startDate, LocalDate endDate, int page, int size, String sortBy, String direction) {
         String validatedSortBy = validateSortProperty(sortBy);
         Sort sort = direction.equalsIgnoreCase("asc") ?
                 Sort.by(validatedSortBy).ascending() :
                 Sort.by(validatedSortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-
-        Page<Order> ordersPage = orderRepository.findAllByUserId(userId, pageable);
-        if (orderStatus == null && paymentStatus == null) {
-            return ordersPage.map(orderMapper::toDto);
-        }
-
-        List<Order> filteredOrders = ordersPage.getContent().stream()
-                .filter(order -> orderStatus == null || order.getOrderStatus() == orderStatus)
-                .filter(order -> paymentStatus == null || order.getPaymentStatus() == paymentStatus)
-                .collect(Collectors.toList());
-
-        List<OrderDto> orderDtos = filteredOrders.stream()
-                .map(orderMapper::toDto)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(orderDtos, pageable, orderDtos.size());
+        Specification<Order> specification = Specification.where(OrderSpecifications.belongsTo(userId))
+                .and(OrderSpecifications.hasOrderStatus(orderStatus))
+                .and(OrderSpecifications.hasPaymentStatus(paymentStatus))
+                .and(OrderSpecifications.createdFrom(startDate != null ? startDate.atStartOfDay() : null))
+                .and(OrderSpecifications.createdBefore(endDate != null ? endDate.plusDays(1).atStartOfDay() : null));
+        return orderRepository.findAll(specification, pageable).map(orderMapper::toDto);
     }
 
     private String validateSortProperty(String sortBy) {
         List<String> validProperties = List.of("createdAt", "orderStatus", "paymentStatus", "id");
         return validProperties.contains(sortBy) ? sortBy : "createdAt";
     }
-
-    public Optional<Order> findByNoteAndCalculatedTotalAndPaymentStatus(String note, double totalAmount, PaymentStatus paymentStatus) {
-        List<Order> orders = orderRepository.findByNoteAndPaymentStatus(note, paymentStatus);
-
-        return orders.stream()
-                .filter(order -> {
-                    double calculatedTotal = calculateTotalAmount(order);
-                    return Math.abs(calculatedTotal - totalAmount) < 0.001;
-                })
-                .findFirst();
-    }
-
-    public double calculateTotalAmount(Order order) {
-        return order.getOrderDetails().stream()
-                .mapToDouble(OrderItem::getTotalPrice)
-                .sum();
-    }
 }
\ No newline at end of file
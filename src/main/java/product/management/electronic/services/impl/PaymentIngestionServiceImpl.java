@@ -0,0 +1,117 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.services.PaymentIngestionService;
+import product.management.electronic.services.PaymentReconciliationService;
+import product.management.electronic.services.PaymentSource;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIngestionServiceImpl implements PaymentIngestionService {
+    private static final long ENQUEUE_TIMEOUT_MS = 5_000;
+
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final List<PaymentSource> paymentSources;
+    private final Map<String, Long> nextPollAt = new ConcurrentHashMap<>();
+    @Value("${payment.queue.capacity:10000}")
+    private int capacity;
+    @Value("${payment.queue.workers:2}")
+    private int workers;
+    @Value("${payment.queue.batch-size:200}")
+    private int batchSize;
+    private BlockingQueue<PaymentTransactionDto> queue;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        executor = Executors.newFixedThreadPool(workers,
+                new ThreadFactoryBuilder().setNameFormat("payment-reconcile-%d").setDaemon(true).build());
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized boolean offer(Collection<PaymentTransactionDto> transactions) {
+        if (queue.remainingCapacity() < transactions.size()) {
+            return false;
+        }
+        queue.addAll(transactions);
+        return true;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${payment.source.poll-interval-ms:1000}")
+    public void pollSources() {
+        long now = System.currentTimeMillis();
+        for (PaymentSource source : paymentSources) {
+            if (nextPollAt.getOrDefault(source.getName(), 0L) > now) {
+                continue;
+            }
+            nextPollAt.put(source.getName(), now + source.getPollIntervalMillis());
+            try {
+                List<PaymentTransactionDto> transactions = source.poll();
+                if (enqueue(transactions)) {
+                    source.acknowledge();
+                } else {
+                    log.warn("Payment queue stayed full, {} will be re-read from {}", transactions.size(), source.getName());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error while polling payment source {}: {}", source.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private boolean enqueue(List<PaymentTransactionDto> transactions) throws InterruptedException {
+        for (PaymentTransactionDto transaction : transactions) {
+            if (!queue.offer(transaction, ENQUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        List<PaymentTransactionDto> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                paymentReconciliationService.reconcile(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error while reconciling {} payment transactions: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package product.management.electronic.services.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.OrderRepository;
+import product.management.electronic.services.DailyRevenueService;
+import product.management.electronic.services.PaymentReconciliationService;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+    private final OrderRepository orderRepository;
+    private final DailyRevenueService dailyRevenueService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    @Transactional
+    public int reconcile(Collection<PaymentTransactionDto> transactions) {
+        Map<UUID, List<BigDecimal>> amountsByOrder = new HashMap<>();
+        for (PaymentTransactionDto transaction : transactions) {
+            UUID orderId = parseOrderId(transaction.getContent());
+            if (orderId != null && transaction.getAmount() != null) {
+                amountsByOrder.computeIfAbsent(orderId, id -> new ArrayList<>()).add(transaction.getAmount());
+            }
+        }
+        if (amountsByOrder.isEmpty()) {
+            return 0;
+        }
+        int matched = 0;
+        for (Order order : orderRepository.findAllByIdInAndPaymentStatus(amountsByOrder.keySet(), PaymentStatus.UNPAID)) {
+            boolean paid = order.getTotalAmount() != null && amountsByOrder.get(order.getId()).stream()
+                    .anyMatch(amount -> amount.compareTo(order.getTotalAmount()) == 0);
+            if (paid && orderRepository.updatePaymentStatus(order.getId(), PaymentStatus.UNPAID, PaymentStatus.PAID) == 1) {
+                order.setPaymentStatus(PaymentStatus.PAID);
+                dailyRevenueService.recordTransition(order, order.getOrderStatus(), PaymentStatus.UNPAID);
+                matched++;
+            }
+        }
+        meterRegistry.counter("payment.reconciliation.matched").increment(matched);
+        log.debug("Reconciled {} of {} payment transactions", matched, transactions.size());
+        return matched;
+    }
+
+    static UUID parseOrderId(String paymentContent) {
+        if (paymentContent == null) {
+            return null;
+        }
+        String content = paymentContent.trim();
+        int dashIndex = content.indexOf('-');
+        content = content.substring(0, Math.min(dashIndex != -1 ? dashIndex : content.length(), 32));
+        if (content.length() < 32) {
+            return null;
+        }
+        StringBuilder formattedUUID = new StringBuilder(content);
+        formattedUUID.insert(8, '-');
+        formattedUUID.insert(13, '-');
+        formattedUUID.insert(18, '-');
+        formattedUUID.insert(23, '-');
+        try {
+            return UUID.fromString(formattedUUID.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
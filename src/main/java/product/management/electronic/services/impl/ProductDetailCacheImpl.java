@@ -0,0 +1,86 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.entities.Product;
+import product.management.electronic.services.ProductDetailCache;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class ProductDetailCacheImpl implements ProductDetailCache {
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong generation = new AtomicLong();
+    @Value("${product.cache.max-size:10000}")
+    private long maxSize;
+    @Value("${product.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+    private Cache<UUID, ProductDto> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "product.detail");
+    }
+
+    @Override
+    public ProductDto get(UUID productId, Function<UUID, ProductDto> loader) {
+        ProductDto cached = cache.getIfPresent(productId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        ProductDto productDto = loader.apply(productId);
+        if (generation.get() == loadedAt) {
+            cache.put(productId, productDto);
+        }
+        return productDto;
+    }
+
+    @Override
+    public void evict(UUID productId) {
+        generation.incrementAndGet();
+        cache.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    cache.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        evict(product.getId());
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        evict(productId);
+    }
+
+    @Override
+    public void onStockChanged(UUID productId, int quantity) {
+        evict(productId);
+    }
+}
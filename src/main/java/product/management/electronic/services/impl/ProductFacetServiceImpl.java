@@ -0,0 +1,343 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.dto.Product.ProductFacetsDto;
+import product.management.electronic.dto.Product.ProductFilterDto;
+import product.management.electronic.entities.Product;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.ProductFacetService;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductFacetServiceImpl implements ProductFacetService {
+    private static final BigDecimal[] PRICE_BOUNDS = {
+            new BigDecimal("5000000"), new BigDecimal("10000000"),
+            new BigDecimal("20000000"), new BigDecimal("30000000")
+    };
+    private static final String[] PRICE_LABELS = {
+            "0-5000000", "5000000-10000000", "10000000-20000000", "20000000-30000000", "30000000+"
+    };
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetIndex index = new FacetIndex();
+
+    @Override
+    public FacetPage browse(ProductFilterDto filter, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return index.browse(filter, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        lock.writeLock().lock();
+        try {
+            index.put(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onStockChanged(UUID productId, int quantity) {
+        lock.writeLock().lock();
+        try {
+            index.updateStock(productId, quantity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        lock.writeLock().lock();
+        try {
+            index.remove(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        FacetIndex newIndex = new FacetIndex();
+        try (Stream<Product> products = productRepository.streamAllWithCategory()) {
+            products.forEach(newIndex::put);
+        }
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built facet index for {} products", newIndex.live.cardinality());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initializeIndex() {
+        rebuild();
+    }
+
+    private static int priceBucket(BigDecimal price) {
+        int bucket = 0;
+        while (bucket < PRICE_BOUNDS.length && price.compareTo(PRICE_BOUNDS[bucket]) >= 0) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static String brandKey(String brand) {
+        return brand == null || brand.isBlank() ? null : brand.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static final class FacetIndex {
+        private final Map<UUID, Integer> slots = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<BigDecimal> prices = new ArrayList<>();
+        private final List<String> brandKeys = new ArrayList<>();
+        private final List<UUID> categoryIds = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final BitSet featured = new BitSet();
+        private final BitSet inStock = new BitSet();
+        private final BitSet[] priceBuckets = new BitSet[PRICE_LABELS.length];
+        private final Map<String, BitSet> brands = new HashMap<>();
+        private final Map<String, String> brandLabels = new HashMap<>();
+        private final Map<UUID, BitSet> categories = new HashMap<>();
+        private final NavigableSet<Integer> byName = new TreeSet<>(
+                Comparator.<Integer, String>comparing(names::get, String.CASE_INSENSITIVE_ORDER).thenComparing(ids::get));
+
+        FacetIndex() {
+            for (int i = 0; i < priceBuckets.length; i++) {
+                priceBuckets[i] = new BitSet();
+            }
+        }
+
+        void put(Product product) {
+            Integer slot = slots.get(product.getId());
+            if (slot != null) {
+                clear(slot);
+            } else {
+                slot = allocate(product.getId());
+            }
+            String brand = brandKey(product.getBrand());
+            UUID categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+            BigDecimal price = product.getPrice() != null ? product.getPrice() : BigDecimal.ZERO;
+            names.set(slot, product.getName() != null ? product.getName() : "");
+            prices.set(slot, price);
+            brandKeys.set(slot, brand);
+            categoryIds.set(slot, categoryId);
+            live.set(slot);
+            byName.add(slot);
+            featured.set(slot, product.isFeatured());
+            inStock.set(slot, product.getQuantity() > 0);
+            priceBuckets[priceBucket(price)].set(slot);
+            if (brand != null) {
+                brands.computeIfAbsent(brand, key -> new BitSet()).set(slot);
+                brandLabels.put(brand, product.getBrand().trim());
+            }
+            if (categoryId != null) {
+                categories.computeIfAbsent(categoryId, key -> new BitSet()).set(slot);
+            }
+        }
+
+        void updateStock(UUID productId, int quantity) {
+            Integer slot = slots.get(productId);
+            if (slot != null) {
+                inStock.set(slot, quantity > 0);
+            }
+        }
+
+        void remove(UUID productId) {
+            Integer slot = slots.remove(productId);
+            if (slot == null) {
+                return;
+            }
+            clear(slot);
+            ids.set(slot, null);
+            freeSlots.push(slot);
+        }
+
+        private int allocate(UUID productId) {
+            Integer slot = freeSlots.poll();
+            if (slot == null) {
+                slot = ids.size();
+                ids.add(productId);
+                names.add(null);
+                prices.add(null);
+                brandKeys.add(null);
+                categoryIds.add(null);
+            } else {
+                ids.set(slot, productId);
+            }
+            slots.put(productId, slot);
+            return slot;
+        }
+
+        private void clear(int slot) {
+            if (live.get(slot)) {
+                byName.remove(slot);
+            }
+            live.clear(slot);
+            featured.clear(slot);
+            inStock.clear(slot);
+            BigDecimal price = prices.get(slot);
+            if (price != null) {
+                priceBuckets[priceBucket(price)].clear(slot);
+            }
+            String brand = brandKeys.get(slot);
+            if (brand != null) {
+                BitSet bits = brands.get(brand);
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    brands.remove(brand);
+                    brandLabels.remove(brand);
+                }
+            }
+            UUID categoryId = categoryIds.get(slot);
+            if (categoryId != null) {
+                BitSet bits = categories.get(categoryId);
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    categories.remove(categoryId);
+                }
+            }
+        }
+
+        FacetPage browse(ProductFilterDto filter, int page, int size) {
+            BitSet brandMask = union(filter.getBrands(), brands, ProductFacetServiceImpl::brandKey);
+            BitSet categoryMask = union(filter.getCategoryIds(), categories, Function.identity());
+            BitSet priceMask = priceRange(filter.getMinPrice(), filter.getMaxPrice());
+            BitSet featuredMask = flag(featured, filter.getFeatured());
+            BitSet stockMask = flag(inStock, filter.getInStock());
+
+            BitSet matches = intersect(brandMask, categoryMask, priceMask, featuredMask, stockMask);
+            ProductFacetsDto facets = new ProductFacetsDto(
+                    brandCounts(intersect(categoryMask, priceMask, featuredMask, stockMask)),
+                    counts(categories, intersect(brandMask, priceMask, featuredMask, stockMask)),
+                    priceCounts(intersect(brandMask, categoryMask, featuredMask, stockMask)),
+                    flagCounts(inStock, intersect(brandMask, categoryMask, priceMask, featuredMask), "inStock", "outOfStock"),
+                    flagCounts(featured, intersect(brandMask, categoryMask, priceMask, stockMask), "featured", "regular")
+            );
+
+            long skip = (long) page * size;
+            List<UUID> pageIds = new ArrayList<>();
+            for (Iterator<Integer> ordered = byName.iterator(); ordered.hasNext() && pageIds.size() < size; ) {
+                int slot = ordered.next();
+                if (matches.get(slot) && skip-- <= 0) {
+                    pageIds.add(ids.get(slot));
+                }
+            }
+            return new FacetPage(pageIds, matches.cardinality(), facets);
+        }
+
+        private <T, K> BitSet union(List<T> values, Map<K, BitSet> postings, Function<T, K> toKey) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            BitSet result = new BitSet();
+            for (T value : values) {
+                BitSet bits = postings.get(toKey.apply(value));
+                if (bits != null) {
+                    result.or(bits);
+                }
+            }
+            return result;
+        }
+
+        private BitSet priceRange(BigDecimal min, BigDecimal max) {
+            if (min == null && max == null) {
+                return null;
+            }
+            BitSet result = new BitSet();
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                BigDecimal price = prices.get(slot);
+                if ((min == null || price.compareTo(min) >= 0) && (max == null || price.compareTo(max) <= 0)) {
+                    result.set(slot);
+                }
+            }
+            return result;
+        }
+
+        private BitSet flag(BitSet bits, Boolean wanted) {
+            if (wanted == null) {
+                return null;
+            }
+            BitSet result = (BitSet) live.clone();
+            if (wanted) {
+                result.and(bits);
+            } else {
+                result.andNot(bits);
+            }
+            return result;
+        }
+
+        private BitSet intersect(BitSet... masks) {
+            BitSet result = (BitSet) live.clone();
+            for (BitSet mask : masks) {
+                if (mask != null) {
+                    result.and(mask);
+                }
+            }
+            return result;
+        }
+
+        private Map<String, Long> brandCounts(BitSet base) {
+            Map<String, Long> result = new TreeMap<>();
+            counts(brands, base).forEach((key, count) -> result.put(brandLabels.get(key), count));
+            return result;
+        }
+
+        private <K> Map<K, Long> counts(Map<K, BitSet> postings, BitSet base) {
+            Map<K, Long> result = new HashMap<>();
+            postings.forEach((key, bits) -> {
+                long count = countAnd(bits, base);
+                if (count > 0) {
+                    result.put(key, count);
+                }
+            });
+            return result;
+        }
+
+        private Map<String, Long> priceCounts(BitSet base) {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int i = 0; i < priceBuckets.length; i++) {
+                result.put(PRICE_LABELS[i], countAnd(priceBuckets[i], base));
+            }
+            return result;
+        }
+
+        private Map<String, Long> flagCounts(BitSet bits, BitSet base, String setLabel, String clearLabel) {
+            long set = countAnd(bits, base);
+            Map<String, Long> result = new LinkedHashMap<>();
+            result.put(setLabel, set);
+            result.put(clearLabel, base.cardinality() - set);
+            return result;
+        }
+
+        private long countAnd(BitSet bits, BitSet base) {
+            BitSet result = (BitSet) bits.clone();
+            result.and(base);
+            return result.cardinality();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.entities.Product;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.ProductSearchService;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchServiceImpl implements ProductSearchService {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float BRAND_WEIGHT = 2.0f;
+    private static final float SKU_WEIGHT = 2.0f;
+    private static final float CATEGORY_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_MATCH_FACTOR = 0.6f;
+
+    private final ProductRepository productRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, Map<UUID, Float>> postings = new TreeMap<>();
+    private Map<UUID, IndexedProduct> documents = new HashMap<>();
+
+    private static final Map<String, Comparator<IndexedProduct>> SORT_KEYS = Map.of(
+            "name", Comparator.comparing(IndexedProduct::name, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER)),
+            "price", Comparator.comparing(IndexedProduct::price, Comparator.nullsFirst(Comparator.naturalOrder())),
+            "quantity", Comparator.comparingInt(IndexedProduct::quantity)
+    );
+
+    private record IndexedProduct(String name, BigDecimal price, int quantity, Set<String> tokens) {
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        Map<String, Float> weights = weigh(product);
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, product.getId());
+            addDocument(postings, documents, product, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onStockChanged(UUID productId, int quantity) {
+        lock.writeLock().lock();
+        try {
+            documents.computeIfPresent(productId, (id, document) ->
+                    new IndexedProduct(document.name(), document.price(), quantity, document.tokens()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<UUID> search(String query) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Float> scores = score(query);
+            Map<UUID, IndexedProduct> docs = documents;
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Float>comparingByValue().reversed()
+                            .thenComparing(entry -> docs.get(entry.getKey()).name(), Comparator.nullsLast(Comparator.naturalOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean canSortBy(String property) {
+        return SORT_KEYS.containsKey(property);
+    }
+
+    @Override
+    public List<UUID> search(String query, String sortBy) {
+        Comparator<IndexedProduct> order = SORT_KEYS.get(sortBy);
+        if (order == null) {
+            throw new IllegalArgumentException("Unsupported search sort property: " + sortBy);
+        }
+        lock.readLock().lock();
+        try {
+            Map<UUID, IndexedProduct> docs = documents;
+            Comparator<UUID> byProperty = Comparator.comparing(docs::get, order);
+            return score(query).keySet().stream()
+                    .sorted(byProperty.thenComparing(Comparator.naturalOrder()).reversed())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<UUID, Float> score(String query) {
+        List<String> terms = tokenize(query).distinct().toList();
+        if (terms.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Float> scores = null;
+        for (String term : terms) {
+            Map<UUID, Float> termScores = scoreTerm(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return Map.of();
+            }
+        }
+        return scores;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        NavigableMap<String, Map<UUID, Float>> newPostings = new TreeMap<>();
+        Map<UUID, IndexedProduct> newDocuments = new HashMap<>();
+        try (Stream<Product> products = productRepository.streamAllWithCategory()) {
+            products.forEach(product -> addDocument(newPostings, newDocuments, product, weigh(product)));
+        }
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} products for search", newDocuments.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initializeIndex() {
+        rebuild();
+    }
+
+    private Map<UUID, Float> scoreTerm(String term) {
+        Map<UUID, Float> termScores = new HashMap<>();
+        for (Map.Entry<String, Map<UUID, Float>> entry : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            float factor = entry.getKey().equals(term) ? 1.0f : PREFIX_MATCH_FACTOR;
+            entry.getValue().forEach((id, weight) -> termScores.merge(id, weight * factor, Math::max));
+        }
+        return termScores;
+    }
+
+    private Map<String, Float> weigh(Product product) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, product.getName(), NAME_WEIGHT);
+        addField(weights, product.getBrand(), BRAND_WEIGHT);
+        addField(weights, product.getSku(), SKU_WEIGHT);
+        addField(weights, product.getCategory() == null ? null : product.getCategory().getName(), CATEGORY_WEIGHT);
+        addField(weights, product.getDescription(), DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private void addField(Map<String, Float> weights, String value, float weight) {
+        tokenize(value).forEach(token -> weights.merge(token, weight, Float::sum));
+    }
+
+    private static void addDocument(NavigableMap<String, Map<UUID, Float>> postings, Map<UUID, IndexedProduct> documents,
+                                    Product product, Map<String, Float> weights) {
+        UUID id = product.getId();
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, key -> new HashMap<>()).put(id, weight));
+        documents.put(id, new IndexedProduct(product.getName(), product.getPrice(), product.getQuantity(), weights.keySet()));
+    }
+
+    private static void removeDocument(NavigableMap<String, Map<UUID, Float>> postings, Map<UUID, IndexedProduct> documents,
+                                       UUID id) {
+        IndexedProduct previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            Map<UUID, Float> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    static Stream<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Stream.empty();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'd')
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.splitAsStream(normalized).filter(token -> !token.isEmpty());
+    }
+}
@@ -1,32 +1,48 @@
 package product.management.electronic.services.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import product.management.electronic.dto.Product.AddProductDto;
 import org.springframework.web.server.ResponseStatusException;
+import product.management.electronic.dto.Product.ProductExportDto;
+import product.management.electronic.dto.Product.ProductBrowseDto;
 import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.dto.Product.ProductFilterDto;
 import product.management.electronic.entities.Category;
 import product.management.electronic.entities.Product;
+import product.management.electronic.enums.ExportFormat;
+import product.management.electronic.exceptions.BadRequestException;
 import product.management.electronic.exceptions.ConflictException;
 import product.management.electronic.exceptions.ResourceNotFoundException;
 import product.management.electronic.mapper.ProductMapper;
 import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.response.ScrollResponse;
 import product.management.electronic.services.CategoryService;
 import product.management.electronic.services.Cloudinary.CloudinaryService;
+import product.management.electronic.services.ProductChangeListener;
+import product.management.electronic.services.ProductDetailCache;
+import product.management.electronic.services.ProductFacetService;
+import product.management.electronic.services.ProductSearchService;
 import product.management.electronic.services.ProductService;
+import product.management.electronic.utils.ScrollTokenCodec;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static product.management.electronic.constants.MessageConstant.*;
 
@@ -37,6 +53,15 @@ public class ProductServiceImpl implements ProductService {
     private final CategoryService categoryService;
     private final ProductMapper productMapper;
     private final CloudinaryService cloudinaryService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ProductSearchService productSearchService;
+    private final ProductFacetService productFacetService;
+    private final ProductDetailCache productDetailCache;
+    private final List<ProductChangeListener> productChangeListeners;
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+    private static final List<String> SCROLL_SORT_PROPERTIES = List.of("name", "price", "quantity");
+    private static final String CSV_HEADER = "id,name,sku,brand,price,quantity,thumbnail,categoryId,isFeatured,description";
 
     @Transactional
     public ProductDto addProduct(AddProductDto addProductDto) {
@@ -44,8 +69,9 @@ public class ProductServiceImpl implements ProductService {
             throw new ConflictException("SKU already exists");
         }
         Category category = categoryService.getCategoryById(addProductDto.getCategoryId());
-        Product product = productMapper.toEntity(addProductDto, category);
-        return productMapper.toDTO(productRepository.save(product));
+        Product product = productRepository.save(productMapper.toEntity(addProductDto, category));
+        afterCommit(() -> productChangeListeners.forEach(listener -> listener.onProductSaved(product)));
+        return productMapper.toDTO(product);
     }
 
     @Override
@@ -62,16 +88,55 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public List<ProductDto> getByName(String name, int page, int size, boolean sort, String sortBy) {
-        Pageable pageable;
+        if (sort && !productSearchService.canSortBy(sortBy)) {
+            throw new BadRequestException(FIELD_INVALID);
+        }
+        List<UUID> matches = sort ? productSearchService.search(name, sortBy) : productSearchService.search(name);
+        int from = Math.min(page * size, matches.size());
+        List<UUID> pageIds = matches.subList(from, Math.min(from + size, matches.size()));
+        Map<UUID, Product> products = getAll(pageIds);
+        return productMapper.toDtoList(pageIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public ProductBrowseDto browseProducts(ProductFilterDto filter, int page, int size) {
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+            throw new BadRequestException(FIELD_INVALID);
+        }
+        ProductFacetService.FacetPage facetPage = productFacetService.browse(filter, page, size);
+        Map<UUID, Product> products = getAll(facetPage.productIds());
+        List<ProductDto> items = productMapper.toDtoList(facetPage.productIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList());
+        return new ProductBrowseDto(items, facetPage.totalItems(), facetPage.facets());
+    }
+
+    @Override
+    public ScrollResponse<ProductDto> scrollProducts(String name, String cursor, int size, boolean sort, String sortBy) {
+        Sort sorting;
         if (sort) {
-            Sort sorting = Sort.by(sortBy).descending();
-            pageable = PageRequest.of(page, size, sorting);
+            if (!SCROLL_SORT_PROPERTIES.contains(sortBy)) {
+                throw new BadRequestException(FIELD_INVALID);
+            }
+            sorting = Sort.by(sortBy).descending().and(Sort.by("id").descending());
         } else {
-            pageable = PageRequest.of(page, size);
+            sorting = Sort.by("id").ascending();
         }
-        List<Product> products = productRepository.findByNameContaining(name, pageable)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-        return productMapper.toDtoList(products);
+        List<String> keys = sorting.stream().map(Sort.Order::getProperty).toList();
+        KeysetScrollPosition position = ScrollTokenCodec.decode(cursor, keys);
+        Window<Product> window = name != null
+                ? productRepository.findByNameContaining(name, position, sorting, Limit.of(size))
+                : productRepository.findAllBy(position, sorting, Limit.of(size));
+        return new ScrollResponse<>(
+                productMapper.toDtoList(window.getContent()),
+                ScrollTokenCodec.nextCursor(window),
+                window.hasNext()
+        );
     }
 
     @Override
@@ -94,19 +159,22 @@ public class ProductServiceImpl implements ProductService {
         existingProduct.setImages(addProductDto.getImages());
         existingProduct.setCategory(category);
         existingProduct.setFeatured(addProductDto.isFeatured());
-        return productMapper.toDTO(productRepository.save(existingProduct));
+        Product savedProduct = productRepository.save(existingProduct);
+        afterCommit(() -> productChangeListeners.forEach(listener -> listener.onProductSaved(savedProduct)));
+        return productMapper.toDTO(savedProduct);
     }
 
     @Override
     public void deleteById(UUID id) {
         Product product = productRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(ITEM_NOT_FOUND + " " + id));
         productRepository.delete(product);
+        afterCommit(() -> productChangeListeners.forEach(listener -> listener.onProductDeleted(id)));
     }
 
     @Override
     public ProductDto getById(UUID uuid) {
-        Product product = productRepository.findById(uuid).orElseThrow(() -> new ResourceNotFoundException(ITEM_NOT_FOUND + " " + uuid));
-        return productMapper.toDTO(product);
+        return productDetailCache.get(uuid, id -> productMapper.toDTO(productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ITEM_NOT_FOUND + " " + id))));
     }
 
     @Override
@@ -147,12 +215,94 @@ public class ProductServiceImpl implements ProductService {
                 }
                 existingProduct.setImages(imageUrls);
             }
-            return productMapper.toDTO(productRepository.save(existingProduct));
+            Product savedProduct = productRepository.save(existingProduct);
+            afterCommit(() -> productChangeListeners.forEach(listener -> listener.onProductSaved(savedProduct)));
+            return productMapper.toDTO(savedProduct);
         } catch (IOException e) {
             throw new RuntimeException("Failed to upload images: " + e.getMessage());
         }
     }
     public void saveProduct(Product product) {
-        productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        afterCommit(() -> productChangeListeners.forEach(listener ->
+                listener.onStockChanged(savedProduct.getId(), savedProduct.getQuantity())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<Product> products = productRepository.streamAllWithCategory()) {
+            Iterator<Product> iterator = products.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                ProductExportDto dto = toExportDto(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, dto);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(dto));
+                }
+                writer.write('\n');
+                if (++written % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private ProductExportDto toExportDto(Product product) {
+        return new ProductExportDto(
+                product.getId(),
+                product.getName(),
+                product.getSku(),
+                product.getDescription(),
+                product.getBrand(),
+                product.getPrice(),
+                product.getQuantity(),
+                product.getThumbnail(),
+                product.getCategory().getId(),
+                product.isFeatured()
+        );
+    }
+
+    private void writeCsvRow(Writer writer, ProductExportDto dto) throws IOException {
+        Object[] values = {dto.getId(), dto.getName(), dto.getSku(), dto.getBrand(), dto.getPrice(), dto.getQuantity(),
+                dto.getThumbnail(), dto.getCategoryId(), dto.isFeatured(), dto.getDescription()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
-}
\ No newline at end of file
+}
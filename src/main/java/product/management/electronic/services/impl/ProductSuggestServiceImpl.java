@@ -0,0 +1,256 @@
+package product.management.electronic.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.entities.Product;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.repository.StatisticsRepository;
+import product.management.electronic.repository.projection.ProductQuantityView;
+import product.management.electronic.services.ProductChangeListener;
+import product.management.electronic.services.ProductSuggestService;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestServiceImpl implements ProductSuggestService, ProductChangeListener {
+    static final int MAX_SUGGESTIONS = 10;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProductRepository productRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    private Map<UUID, Long> salesByProduct = new HashMap<>();
+
+    @Override
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return trie.top(key, Math.min(limit, MAX_SUGGESTIONS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductSaved(Product product) {
+        lock.writeLock().lock();
+        try {
+            trie.removeProduct(product.getId());
+            trie.addProduct(product.getId(), product.getName(), product.getBrand(), weightOf(salesByProduct, product.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onProductDeleted(UUID productId) {
+        lock.writeLock().lock();
+        try {
+            trie.removeProduct(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, Long> sales = statisticsRepository.sumQuantitySoldByProduct(OrderStatus.CANCELLED).stream()
+                .collect(Collectors.toMap(ProductQuantityView::getProductId, ProductQuantityView::getQuantity));
+        Trie newTrie = new Trie();
+        try (Stream<Product> products = productRepository.streamAllWithCategory()) {
+            products.forEach(product ->
+                    newTrie.addProduct(product.getId(), product.getName(), product.getBrand(), weightOf(sales, product.getId())));
+        }
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            salesByProduct = sales;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built suggestion trie with {} phrases", newTrie.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initializeTrie() {
+        rebuild();
+    }
+
+    @Scheduled(fixedRate = 3_600_000, initialDelay = 3_600_000)
+    @Transactional(readOnly = true)
+    public void refreshSalesWeights() {
+        rebuild();
+    }
+
+    private static long weightOf(Map<UUID, Long> sales, UUID productId) {
+        return 1 + sales.getOrDefault(productId, 0L);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .replace('đ', 'd')
+                .replace('Đ', 'd')
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.splitAsStream(folded)
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.joining(" "));
+    }
+
+    static final class Trie {
+        private final Node root = new Node();
+        private final Map<String, Suggestion> suggestions = new HashMap<>();
+        private final Map<UUID, List<Suggestion>> suggestionsByProduct = new HashMap<>();
+
+        int size() {
+            return suggestions.size();
+        }
+
+        List<String> top(String key, int limit) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream().limit(limit).map(Suggestion::text).toList();
+        }
+
+        void addProduct(UUID productId, String name, String brand, long weight) {
+            List<Suggestion> contributed = new ArrayList<>(2);
+            for (String text : new LinkedHashSet<>(Arrays.asList(name, brand))) {
+                if (text == null || normalize(text).isEmpty()) {
+                    continue;
+                }
+                Suggestion suggestion = suggestions.computeIfAbsent(text, this::createSuggestion);
+                suggestion.contributions.put(productId, weight);
+                suggestion.refreshWeight();
+                contributed.add(suggestion);
+                refresh(suggestion);
+            }
+            suggestionsByProduct.put(productId, contributed);
+        }
+
+        void removeProduct(UUID productId) {
+            List<Suggestion> contributed = suggestionsByProduct.remove(productId);
+            if (contributed == null) {
+                return;
+            }
+            for (Suggestion suggestion : contributed) {
+                suggestion.contributions.remove(productId);
+                suggestion.refreshWeight();
+                if (suggestion.contributions.isEmpty()) {
+                    suggestions.remove(suggestion.text());
+                    for (String key : suggestion.keys) {
+                        terminalOf(key).terminals.remove(suggestion);
+                    }
+                }
+                refresh(suggestion);
+            }
+        }
+
+        private Suggestion createSuggestion(String text) {
+            Suggestion suggestion = new Suggestion(text);
+            String normalized = normalize(text);
+            int start = 0;
+            while (start >= 0) {
+                suggestion.keys.add(normalized.substring(start));
+                int space = normalized.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+            for (String key : suggestion.keys) {
+                terminalOf(key).terminals.add(suggestion);
+            }
+            return suggestion;
+        }
+
+        private void refresh(Suggestion suggestion) {
+            for (String key : suggestion.keys) {
+                List<Node> path = walk(key);
+                for (int i = path.size() - 1; i >= 0; i--) {
+                    path.get(i).recomputeTop();
+                }
+            }
+        }
+
+        private Node terminalOf(String key) {
+            List<Node> path = walk(key);
+            return path.get(path.size() - 1);
+        }
+
+        private List<Node> walk(String key) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                path.add(node);
+            }
+            return path;
+        }
+    }
+
+    static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<Suggestion> terminals = new HashSet<>(2);
+        private List<Suggestion> top = List.of();
+
+        void recomputeTop() {
+            Set<Suggestion> candidates = new HashSet<>(terminals);
+            for (Node child : children.values()) {
+                candidates.addAll(child.top);
+            }
+            top = candidates.stream()
+                    .sorted(Comparator.comparingLong(Suggestion::weight).reversed().thenComparing(Suggestion::text))
+                    .limit(MAX_SUGGESTIONS)
+                    .toList();
+        }
+    }
+
+    static final class Suggestion {
+        private final String text;
+        private final List<String> keys = new ArrayList<>(4);
+        private final Map<UUID, Long> contributions = new HashMap<>(2);
+        private long weight;
+
+        Suggestion(String text) {
+            this.text = text;
+        }
+
+        String text() {
+            return text;
+        }
+
+        long weight() {
+            return weight;
+        }
+
+        void refreshWeight() {
+            weight = contributions.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package product.management.electronic.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.services.PaymentSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.source.file.enabled", havingValue = "true")
+public class StatementFilePaymentSource implements PaymentSource {
+    private static final int MAX_READ_BYTES = 1 << 20;
+
+    private final ObjectMapper objectMapper;
+    @Value("${payment.source.file.path}")
+    private Path path;
+    @Value("${payment.source.file.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+    private long offset;
+    private long pendingOffset;
+
+    @Override
+    public String getName() {
+        return "file:" + path;
+    }
+
+    @Override
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    @Override
+    public synchronized List<PaymentTransactionDto> poll() throws IOException {
+        pendingOffset = offset;
+        if (!Files.isRegularFile(path)) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset) {
+                log.warn("Statement file {} was truncated, reading it from the start", path);
+                offset = 0;
+            }
+            if (size == offset) {
+                pendingOffset = offset;
+                return List.of();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - offset, MAX_READ_BYTES));
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read <= 0) break;
+                position += read;
+            }
+            int end = buffer.position();
+            byte[] bytes = buffer.array();
+            int lastNewline = end - 1;
+            while (lastNewline >= 0 && bytes[lastNewline] != '\n') {
+                lastNewline--;
+            }
+            if (lastNewline < 0) {
+                pendingOffset = end == MAX_READ_BYTES ? offset + end : offset;
+                return List.of();
+            }
+            pendingOffset = offset + lastNewline + 1;
+            return parse(new String(bytes, 0, lastNewline, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public synchronized void acknowledge() {
+        offset = pendingOffset;
+    }
+
+    private List<PaymentTransactionDto> parse(String chunk) {
+        boolean csv = path.getFileName().toString().toLowerCase().endsWith(".csv");
+        List<PaymentTransactionDto> transactions = new ArrayList<>();
+        for (String line : chunk.split("\n")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) continue;
+            PaymentTransactionDto transaction = csv ? parseCsv(trimmed) : parseJson(trimmed);
+            if (transaction != null) {
+                transactions.add(transaction);
+            }
+        }
+        return transactions;
+    }
+
+    private PaymentTransactionDto parseCsv(String line) {
+        int separator = line.lastIndexOf(',');
+        if (separator < 0) {
+            return null;
+        }
+        String content = line.substring(0, separator).strip();
+        if (content.length() >= 2 && content.startsWith("\"") && content.endsWith("\"")) {
+            content = content.substring(1, content.length() - 1).replace("\"\"", "\"");
+        }
+        try {
+            return new PaymentTransactionDto(content, new BigDecimal(line.substring(separator + 1).strip()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private PaymentTransactionDto parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, PaymentTransactionDto.class);
+        } catch (JsonProcessingException e) {
+            log.debug("Skipping malformed statement line in {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,95 +1,47 @@
 package product.management.electronic.services.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import product.management.electronic.dto.Order.OrderItemDto;
 import product.management.electronic.dto.Statistics.Revenue.*;
 import product.management.electronic.dto.Statistics.Summary.RevenueMonthSummaryDto;
 import product.management.electronic.dto.Statistics.Summary.RevenueWeekSummaryDto;
 import product.management.electronic.dto.Statistics.Summary.RevenueYearSummaryDto;
-import product.management.electronic.entities.Order;
-import product.management.electronic.entities.OrderItem;
 import product.management.electronic.enums.OrderStatus;
 import product.management.electronic.enums.PaymentStatus;
-import product.management.electronic.mapper.OrderMapper;
 import product.management.electronic.mapper.StatisticsMapper;
 import product.management.electronic.repository.StatisticsRepository;
+import product.management.electronic.repository.projection.RevenueBucketView;
 import product.management.electronic.services.StatisticsService;
 
 import java.time.*;
 import java.time.temporal.IsoFields;
-import java.time.temporal.WeekFields;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class StatisticsServiceImpl implements StatisticsService {
-    private final OrderMapper orderMapper;
     private final StatisticsRepository statisticsRepository;
     private final StatisticsMapper statisticsMapper;
 
     @Override
-    public List<ProductSalesDto> getTopSellingProducts(LocalDate startDate, LocalDate endDate) {
-        List<Order> orders = statisticsRepository.findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-                startDate.atStartOfDay(),
-                endDate.atTime(LocalTime.MAX),
-                OrderStatus.COMPLETED,
-                PaymentStatus.PAID
-        );
-
-        Map<String, ProductSalesDto> productSalesMap = new HashMap<>();
-
-        for (Order order : orders) {
-            for (OrderItem item : order.getOrderDetails()) {
-                OrderItemDto itemDto = orderMapper.mapToDto(item);
-                String productIdStr = item.getProduct().getId().toString();
-                productSalesMap.compute(productIdStr, (id, existing) -> {
-                    if (existing == null) {
-                        return new ProductSalesDto(
-                                item.getProduct().getId(),
-                                itemDto.getProductName(),
-                                itemDto.getThumbnail(),
-                                itemDto.getQuantity(),
-                                itemDto.getTotalPrice()
-                        );
-
-                    } else {
-                        existing.setQuantitySold(existing.getQuantitySold() + itemDto.getQuantity());
-                        existing.setTotalRevenue(existing.getTotalRevenue() + itemDto.getTotalPrice());
-
-                        return existing;
-                    }
-                });
-            }
-        }
-        return productSalesMap.values().stream()
-                .sorted(Comparator.comparing(ProductSalesDto::getQuantitySold).reversed())
+    public List<ProductSalesDto> getTopSellingProducts(LocalDate startDate, LocalDate endDate, int limit) {
+        return statisticsRepository.findTopSellingProducts(
+                        startDate.atStartOfDay(),
+                        endDate.atTime(LocalTime.MAX),
+                        OrderStatus.COMPLETED,
+                        PaymentStatus.PAID,
+                        PageRequest.of(0, limit)
+                ).stream()
+                .map(statisticsMapper::toProductSalesDto)
                 .toList();
     }
 
     @Override
     public List<RevenueByDateDto> getRevenueByDate(LocalDate nowDay) {
-        LocalDateTime startDate = nowDay.atStartOfDay();
-        LocalDateTime endDate = nowDay.atTime(LocalTime.MAX);
-        List<Order> orders = statisticsRepository.findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-                startDate,
-                endDate,
-                OrderStatus.COMPLETED,
-                PaymentStatus.PAID
-        );
-        Map<LocalDate,Double> revenueMap = new TreeMap<>();
-        for(Order order: orders){
-            LocalDate orderDate = order.getCreatedAt().toLocalDate();
-            double totalAmount = order.getOrderDetails()
-                    .stream()
-                    .mapToDouble(OrderItem::getTotalPrice)
-                    .sum();
-
-            revenueMap.put(orderDate,
-                    revenueMap.getOrDefault(orderDate, 0.0) + totalAmount);
-        }
-        return revenueMap.entrySet().stream()
-                .map(entry -> statisticsMapper.toRevenueByDateDto(entry.getKey(),entry.getValue()))
+        return statisticsRepository.sumRevenueByDay(nowDay, nowDay).stream()
+                .map(bucket -> statisticsMapper.toRevenueByDateDto(bucket.getBucketStart(), bucket.getRevenue().doubleValue()))
                 .toList();
     }
 
@@ -105,21 +57,9 @@ public class StatisticsServiceImpl implements StatisticsService {
 
         LocalDate endDate = startDate.plusDays(6);
 
-        List<Order> orders = statisticsRepository.findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-                startDate.atStartOfDay(),
-                endDate.atTime(LocalTime.MAX),
-                OrderStatus.COMPLETED,
-                PaymentStatus.PAID
-        );
-
         Map<LocalDate, Double> revenueMap = new TreeMap<>();
-        for (Order order : orders) {
-            LocalDate orderDate = order.getCreatedAt().toLocalDate();
-            double totalAmount = order.getOrderDetails()
-                    .stream()
-                    .mapToDouble(OrderItem::getTotalPrice)
-                    .sum();
-            revenueMap.merge(orderDate, totalAmount, Double::sum);
+        for (RevenueBucketView bucket : statisticsRepository.sumRevenueByDay(startDate, endDate)) {
+            revenueMap.put(bucket.getBucketStart(), bucket.getRevenue().doubleValue());
         }
 
         for (int i = 0; i < 7; i++) {
@@ -144,33 +84,14 @@ public class StatisticsServiceImpl implements StatisticsService {
         LocalDate startDate = LocalDate.of(currentYear, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
-        List<Order> orders = statisticsRepository.findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-                startDate.atStartOfDay(),
-                endDate.atTime(LocalTime.MAX),
-                OrderStatus.COMPLETED,
-                PaymentStatus.PAID
-        );
-        List<LocalDate> weekStartDates = getCustomWeekStartDates(startDate, endDate);
         Map<LocalDate, Double> weekRevenueMap = new LinkedHashMap<>();
-
-        for (int i = 0; i < weekStartDates.size(); i++) {
-            LocalDate weekStart = weekStartDates.get(i);
-            LocalDate weekEnd = (i + 1 < weekStartDates.size())
-                    ? weekStartDates.get(i + 1).minusDays(1)
-                    : endDate;
-
-            double weeklyRevenue = orders.stream()
-                    .filter(order -> {
-                        LocalDate orderDate = order.getCreatedAt().toLocalDate();
-                        return !orderDate.isBefore(weekStart) && !orderDate.isAfter(weekEnd);
-                    })
-                    .mapToDouble(order -> order.getOrderDetails()
-                            .stream()
-                            .mapToDouble(OrderItem::getTotalPrice)
-                            .sum())
-                    .sum();
-
-            weekRevenueMap.put(weekStart, weeklyRevenue);
+        for (LocalDate weekStart : getCustomWeekStartDates(startDate, endDate)) {
+            weekRevenueMap.put(weekStart, 0.0);
+        }
+        for (RevenueBucketView bucket : statisticsRepository.sumRevenueByWeek(startDate, endDate)) {
+            LocalDate monday = bucket.getBucketStart().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            LocalDate weekStart = monday.isBefore(startDate) ? startDate : monday;
+            weekRevenueMap.merge(weekStart, bucket.getRevenue().doubleValue(), Double::sum);
         }
 
         double totalMonthRevenue = weekRevenueMap.values().stream().mapToDouble(Double::doubleValue).sum();
@@ -207,29 +128,17 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public RevenueYearSummaryDto getRevenueByYear(int year) {
+        double[] monthlyTotals = new double[12];
+        for (RevenueBucketView bucket : statisticsRepository.sumRevenueByMonth(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            monthlyTotals[bucket.getBucketStart().getMonthValue() - 1] = bucket.getRevenue().doubleValue();
+        }
+
         List<RevenueByYearDto> revenueList = new ArrayList<>();
         double yearlyTotal = 0;
-
         for (int month = 1; month <= 12; month++) {
-            LocalDate startDate = LocalDate.of(year, month, 1);
-            LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-
-            List<Order> orders = statisticsRepository.findByCreatedAtBetweenAndOrderStatusAndPaymentStatus(
-                    startDate.atStartOfDay(),
-                    endDate.atTime(LocalTime.MAX),
-                    OrderStatus.COMPLETED,
-                    PaymentStatus.PAID
-            );
-
-            double totalAmount = orders.stream()
-                    .mapToDouble(order -> order.getOrderDetails().stream()
-                            .mapToDouble(OrderItem::getTotalPrice)
-                            .sum())
-                    .sum();
-
-            revenueList.add(new RevenueByYearDto(month, totalAmount));
-            yearlyTotal += totalAmount;
+            revenueList.add(new RevenueByYearDto(month, monthlyTotals[month - 1]));
+            yearlyTotal += monthlyTotals[month - 1];
         }
         return new RevenueYearSummaryDto(revenueList, yearlyTotal);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+import product.management.electronic.entities.TokenRevocation;
+import product.management.electronic.repository.TokenRevocationRepository;
+import product.management.electronic.repository.UserRepository;
+import product.management.electronic.services.TokenRevocationService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+    private final UserRepository userRepository;
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Cache<String, Long> cutoffs = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+    @Value("${jwt.revocation-check.enabled:false}")
+    private boolean revocationCheckEnabled;
+    @Value("${jwt.revocation.expected-users:100000}")
+    private int expectedUsers;
+    private volatile BloomFilter<CharSequence> revokedUsers;
+    private volatile boolean seeded;
+    private volatile LocalDateTime syncedUntil = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Override
+    public boolean isRevoked(TokenClaimsDto claims) {
+        if (mightBeRevoked(claims.getUsername()) && claims.getIssuedAt() <= cutoffFor(claims.getUsername())) {
+            return true;
+        }
+        return revocationCheckEnabled && !userRepository.existsByUsernameAndIsActiveTrue(claims.getUsername());
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllFor(String username) {
+        long cutoff = Instant.now().toEpochMilli();
+        tokenRevocationRepository.save(new TokenRevocation(username, cutoff, LocalDateTime.now()));
+        filter().put(username);
+        cutoffs.put(username, cutoff);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        List<TokenRevocation> changed = tokenRevocationRepository.findAllByUpdatedAtAfter(syncedUntil);
+        BloomFilter<CharSequence> filter = filter();
+        for (TokenRevocation revocation : changed) {
+            filter.put(revocation.getUsername());
+            cutoffs.invalidate(revocation.getUsername());
+        }
+        syncedUntil = syncStartedAt.minusSeconds(1);
+        seeded = true;
+        if (!changed.isEmpty()) {
+            log.debug("Synced {} token revocations", changed.size());
+        }
+    }
+
+    private boolean mightBeRevoked(String username) {
+        if (!seeded) {
+            return true;
+        }
+        BloomFilter<CharSequence> filter = revokedUsers;
+        return filter != null && filter.mightContain(username);
+    }
+
+    private long cutoffFor(String username) {
+        try {
+            return cutoffs.get(username, () -> tokenRevocationRepository.findById(username)
+                    .map(TokenRevocation::getRevokedBefore)
+                    .orElse(Long.MIN_VALUE));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private BloomFilter<CharSequence> filter() {
+        BloomFilter<CharSequence> filter = revokedUsers;
+        if (filter == null) {
+            synchronized (this) {
+                filter = revokedUsers;
+                if (filter == null) {
+                    filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedUsers, 0.01);
+                    revokedUsers = filter;
+                }
+            }
+        }
+        return filter;
+    }
+}
@@ -1,11 +1,8 @@
 package product.management.electronic.services.impl;
 
 import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,6 +10,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import product.management.electronic.dto.Auth.AuthDto;
 import product.management.electronic.dto.Auth.RegisterDto;
 import product.management.electronic.dto.User.UpdateUserDto;
@@ -23,6 +21,8 @@ import product.management.electronic.exceptions.ConflictException;
 import product.management.electronic.exceptions.ResourceNotFoundException;
 import product.management.electronic.mapper.UserMapper;
 import product.management.electronic.repository.UserRepository;
+import product.management.electronic.services.EmailOutboxService;
+import product.management.electronic.services.TokenRevocationService;
 import product.management.electronic.services.UserService;
 
 import java.io.IOException;
@@ -42,7 +42,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
-    private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
+    private final TokenRevocationService tokenRevocationService;
 
     public UserDetails loadUserByUsername(String username) throws ResourceNotFoundException {
         User user = userRepository.findByUsername(username).orElseThrow(() -> new ResourceNotFoundException(USER_NOTFOUND));
@@ -63,6 +64,7 @@ public class UserServiceImpl implements UserService {
         userRepository.save(user);
     }
 
+    @Transactional
     public AuthDto registerUser(RegisterDto request) throws MessagingException, IOException {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new ConflictException("Username already registered! " + request.getUsername());
@@ -116,11 +118,13 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        tokenRevocationService.revokeAllFor(user.getUsername());
 
         return new AuthDto(user.getId(), user.getUsername(), user.getEmail(), user.getCreateAt());
     }
 
     @Override
+    @Transactional
     public void forgotPassword(String email) throws MessagingException, IOException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Email not found!"));
@@ -128,6 +132,7 @@ public class UserServiceImpl implements UserService {
         String newPassword = generateRandomPassword();
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        tokenRevocationService.revokeAllFor(user.getUsername());
 
         sendEmailResetPassword(email, "Quên mật khẩu", "Mật khẩu mới của bạn là: " + newPassword, user.getUsername());
     }
@@ -146,11 +151,6 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void sendEmailActivation(String to, String username, String token) throws MessagingException, IOException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(to);
-        helper.setSubject("Kích hoạt tài khoản của bạn");
-
         String activationLink = "http://localhost:8080/api/v1/auth/activate?token=" + token;
         saveToken(to, token);
 
@@ -159,23 +159,16 @@ public class UserServiceImpl implements UserService {
         htmlContent = htmlContent.replace("{{USER_NAME}}", username)
                 .replace("{{ACTIVATION_LINK}}", activationLink);
 
-        helper.setText(htmlContent, true);
-        mailSender.send(message);
+        emailOutboxService.enqueue(to, "Kích hoạt tài khoản của bạn", htmlContent);
     }
 
     public void sendEmailResetPassword(String to, String subject, String newPassword, String username) throws MessagingException, IOException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(to);
-        helper.setSubject(subject);
-
         ClassPathResource resource = new ClassPathResource("templates/email_password.html");
         String htmlContent = new String(Files.readAllBytes(resource.getFile().toPath()), StandardCharsets.UTF_8);
         htmlContent = htmlContent.replace("{{NEW_PASSWORD}}", newPassword)
                 .replace("{{USER_NAME}}", username);
 
-        helper.setText(htmlContent, true);
-        mailSender.send(message);
+        emailOutboxService.enqueue(to, subject, htmlContent);
     }
 
     @Override
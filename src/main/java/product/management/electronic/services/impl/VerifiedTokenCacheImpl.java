@@ -0,0 +1,54 @@
+package product.management.electronic.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+import product.management.electronic.services.VerifiedTokenCache;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class VerifiedTokenCacheImpl implements VerifiedTokenCache {
+    private final MeterRegistry meterRegistry;
+    @Value("${jwt.cache.max-size:10000}")
+    private long maxSize;
+    @Value("${jwt.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+    private Cache<String, TokenClaimsDto> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    @Override
+    public TokenClaimsDto get(String token, Function<String, TokenClaimsDto> verifier) {
+        TokenClaimsDto cached = cache.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiresAt() > Instant.now().getEpochSecond()) {
+                return cached;
+            }
+            cache.invalidate(token);
+            return null;
+        }
+        TokenClaimsDto claims = verifier.apply(token);
+        if (claims != null) {
+            cache.put(token, claims);
+        }
+        return claims;
+    }
+}
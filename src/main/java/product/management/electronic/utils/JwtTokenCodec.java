@@ -0,0 +1,132 @@
+package product.management.electronic.utils;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class JwtTokenCodec {
+    public static final String LEGACY_KEY_ID = "legacy";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String LEGACY_HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+    private static final String LEGACY_ENCODED_HEADER = ENCODER.encodeToString(LEGACY_HEADER.getBytes(StandardCharsets.US_ASCII));
+    private static final int SIGNATURE_LENGTH = ENCODER.encode(new byte[32]).length;
+
+    private final SigningKey activeKey;
+    private final Map<String, SigningKey> keysByHeader = new HashMap<>();
+
+    public JwtTokenCodec(String secret) {
+        this(null, secret, Map.of());
+    }
+
+    /**
+     * Signs with the active key and accepts tokens from any of the previous keys, picked by the
+     * {@code kid} header. Tokens issued before key ids existed carry no {@code kid}; they are checked
+     * against the previous key registered as {@link #LEGACY_KEY_ID}, or the active key if there is none.
+     */
+    public JwtTokenCodec(String activeKeyId, String activeSecret, Map<String, String> previousSecrets) {
+        if (LEGACY_KEY_ID.equals(activeKeyId)) {
+            throw new IllegalArgumentException("Active JWT key id is reserved: " + activeKeyId);
+        }
+        activeKey = new SigningKey(activeKeyId, activeSecret);
+        keysByHeader.put(activeKey.encodedHeader, activeKey);
+        previousSecrets.forEach((keyId, secret) -> {
+            if (keyId == null || keyId.isEmpty() || keyId.equals(activeKeyId)) {
+                throw new IllegalArgumentException("Previous JWT key id must be set and differ from the active one: " + keyId);
+            }
+            if (!LEGACY_KEY_ID.equals(keyId)) {
+                SigningKey key = new SigningKey(keyId, secret);
+                keysByHeader.put(key.encodedHeader, key);
+            } else if (keysByHeader.containsKey(LEGACY_ENCODED_HEADER)) {
+                throw new IllegalArgumentException("Active JWT key has no id and already verifies legacy tokens");
+            } else {
+                keysByHeader.put(LEGACY_ENCODED_HEADER, new SigningKey(null, secret));
+            }
+        });
+        keysByHeader.putIfAbsent(LEGACY_ENCODED_HEADER, activeKey);
+    }
+
+    public String sign(JSONObject payload) {
+        byte[] header = activeKey.encodedHeaderBytes;
+        byte[] encodedPayload = ENCODER.encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+        int signingLength = header.length + 1 + encodedPayload.length;
+        byte[] token = new byte[signingLength + 1 + SIGNATURE_LENGTH];
+        System.arraycopy(header, 0, token, 0, header.length);
+        token[header.length] = '.';
+        System.arraycopy(encodedPayload, 0, token, header.length + 1, encodedPayload.length);
+
+        Mac mac = activeKey.macs.get();
+        mac.update(token, 0, signingLength);
+        byte[] signature = ENCODER.encode(mac.doFinal());
+        token[signingLength] = '.';
+        System.arraycopy(signature, 0, token, signingLength + 1, SIGNATURE_LENGTH);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    public JSONObject verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int payloadStart = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.');
+        if (payloadStart <= 0 || signatureStart == payloadStart) {
+            return null;
+        }
+        SigningKey key = keysByHeader.get(token.substring(0, payloadStart));
+        if (key == null) {
+            return null;
+        }
+        try {
+            Mac mac = key.macs.get();
+            mac.update(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+            byte[] expected = mac.doFinal();
+            byte[] actual = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+            return new JSONObject(new String(DECODER.decode(token.substring(payloadStart + 1, signatureStart)), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | JSONException e) {
+            return null;
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC SHA256 algorithm error", e);
+        }
+    }
+
+    private static final class SigningKey {
+        private final String encodedHeader;
+        private final byte[] encodedHeaderBytes;
+        private final ThreadLocal<Mac> macs;
+
+        private SigningKey(String keyId, String secret) {
+            if (secret == null || secret.isEmpty()) {
+                throw new IllegalArgumentException("Secret key cannot be null or empty");
+            }
+            String header = keyId == null || keyId.isEmpty()
+                    ? LEGACY_HEADER
+                    : "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":" + JSONObject.quote(keyId) + "}";
+            encodedHeaderBytes = ENCODER.encode(header.getBytes(StandardCharsets.UTF_8));
+            encodedHeader = new String(encodedHeaderBytes, StandardCharsets.US_ASCII);
+            SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+            Mac prototype = newMac(key);
+            macs = ThreadLocal.withInitial(() -> newMac(key));
+            macs.set(prototype);
+        }
+    }
+}
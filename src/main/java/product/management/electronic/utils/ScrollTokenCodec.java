@@ -0,0 +1,103 @@
+package product.management.electronic.utils;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import product.management.electronic.exceptions.BadRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static product.management.electronic.constants.MessageConstant.CURSOR_INVALID;
+
+public final class ScrollTokenCodec {
+    private static final String ENUM_PACKAGE = "product.management.electronic.enums.";
+
+    private ScrollTokenCodec() {
+    }
+
+    public static KeysetScrollPosition decode(String token, Collection<String> requiredKeys) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            JSONObject keys = new JSONObject(json);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String key : keys.keySet()) {
+                values.put(key, decodeValue(keys.getJSONArray(key)));
+            }
+            if (!values.keySet().containsAll(requiredKeys)) {
+                throw new BadRequestException(CURSOR_INVALID);
+            }
+            return ScrollPosition.forward(values);
+        } catch (IllegalArgumentException | DateTimeException | JSONException | ClassCastException e) {
+            throw new BadRequestException(CURSOR_INVALID);
+        }
+    }
+
+    public static String nextCursor(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalStateException("Only keyset scroll positions can be encoded");
+        }
+        JSONObject keys = new JSONObject();
+        keyset.getKeys().forEach((key, value) -> keys.put(key, encodeValue(value)));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(keys.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JSONArray encodeValue(Object value) {
+        JSONArray typed = new JSONArray();
+        if (value == null) {
+            typed.put("null");
+        } else if (value instanceof Enum<?> enumValue) {
+            typed.put("enum:" + enumValue.getDeclaringClass().getSimpleName());
+        } else {
+            typed.put(value.getClass().getSimpleName());
+        }
+        typed.put(value == null ? "" : value.toString());
+        return typed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object decodeValue(JSONArray typed) {
+        String type = typed.getString(0);
+        String raw = typed.getString(1);
+        if (type.startsWith("enum:")) {
+            try {
+                Class<?> enumType = Class.forName(ENUM_PACKAGE + type.substring(5));
+                if (!enumType.isEnum()) {
+                    throw new BadRequestException(CURSOR_INVALID);
+                }
+                return Enum.valueOf((Class<? extends Enum>) enumType, raw);
+            } catch (ClassNotFoundException e) {
+                throw new BadRequestException(CURSOR_INVALID);
+            }
+        }
+        return switch (type) {
+            case "null" -> null;
+            case "String" -> raw;
+            case "UUID" -> UUID.fromString(raw);
+            case "BigDecimal" -> new BigDecimal(raw);
+            case "Integer" -> Integer.valueOf(raw);
+            case "Long" -> Long.valueOf(raw);
+            case "Boolean" -> Boolean.valueOf(raw);
+            case "LocalDateTime" -> LocalDateTime.parse(raw);
+            default -> throw new BadRequestException(CURSOR_INVALID);
+        };
+    }
+}
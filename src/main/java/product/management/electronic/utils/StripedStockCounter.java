@@ -0,0 +1,82 @@
+package product.management.electronic.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class StripedStockCounter {
+    private static final int STRIDE = 8;
+
+    private final int stripes;
+    private final AtomicLongArray cells;
+
+    public StripedStockCounter(int stripes, long initial) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * STRIDE);
+        set(initial);
+    }
+
+    public boolean tryAcquire(long quantity) {
+        while (true) {
+            long taken = takeUpTo(quantity);
+            if (taken == quantity) {
+                return true;
+            }
+            release(taken);
+            if (sum() < quantity) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public void adjust(long delta) {
+        if (delta > 0) {
+            release(delta);
+        } else if (delta < 0) {
+            takeUpTo(-delta);
+        }
+    }
+
+    public void release(long quantity) {
+        if (quantity > 0) {
+            cells.addAndGet(home() * STRIDE, quantity);
+        }
+    }
+
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * STRIDE);
+        }
+        return total;
+    }
+
+    public synchronized void set(long available) {
+        long share = Math.max(0, available) / stripes;
+        long remainder = Math.max(0, available) % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * STRIDE, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    private long takeUpTo(long quantity) {
+        int start = home();
+        long taken = 0;
+        for (int i = 0; i < stripes && taken < quantity; i++) {
+            int cell = ((start + i) % stripes) * STRIDE;
+            long current = cells.get(cell);
+            while (current > 0) {
+                long portion = Math.min(current, quantity - taken);
+                if (cells.compareAndSet(cell, current, current - portion)) {
+                    taken += portion;
+                    break;
+                }
+                current = cells.get(cell);
+            }
+        }
+        return taken;
+    }
+
+    private int home() {
+        return (int) Math.floorMod(Thread.currentThread().threadId(), (long) stripes);
+    }
+}
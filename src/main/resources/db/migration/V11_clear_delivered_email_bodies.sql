@@ -0,0 +1 @@
+UPDATE email_outbox SET body = '' WHERE status IN ('SENT', 'FAILED');
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS daily_revenue (
+    revenue_date DATE NOT NULL PRIMARY KEY,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(15, 2) NOT NULL DEFAULT 0
+);
@@ -0,0 +1,3 @@
+ALTER TABLE products ADD COLUMN hot_sku BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE order_item ADD COLUMN stock_applied BOOLEAN NOT NULL DEFAULT TRUE;
+CREATE INDEX idx_order_item_stock_applied ON order_item (stock_applied);
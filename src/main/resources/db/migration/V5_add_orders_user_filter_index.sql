@@ -0,0 +1,2 @@
+CREATE INDEX idx_orders_user_status_payment_created
+    ON orders (user_id, order_status, payment_status, created_at);
@@ -0,0 +1,11 @@
+ALTER TABLE orders ADD COLUMN total_amount DECIMAL(15, 2);
+UPDATE orders o
+SET total_amount = (SELECT COALESCE(SUM(oi.total_price), 0) FROM order_item oi WHERE oi.order_id = o.id)
+WHERE o.total_amount IS NULL;
+
+CREATE TABLE IF NOT EXISTS payment_sheet_cursor (
+    source_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    last_row_index INT NOT NULL DEFAULT 0,
+    last_row_hash VARCHAR(32),
+    updated_at DATETIME(6)
+);
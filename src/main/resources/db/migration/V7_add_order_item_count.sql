@@ -0,0 +1,9 @@
+ALTER TABLE orders ADD COLUMN item_count INT NOT NULL DEFAULT 0;
+UPDATE orders o
+SET item_count = (SELECT COALESCE(SUM(oi.quantity), 0) FROM order_item oi WHERE oi.order_id = o.id);
+UPDATE orders SET total_amount = 0 WHERE total_amount IS NULL;
+ALTER TABLE orders MODIFY total_amount DECIMAL(15, 2) NOT NULL;
+
+CREATE INDEX idx_orders_payment_total ON orders (payment_status, total_amount);
+CREATE INDEX idx_orders_status_payment_created_total
+    ON orders (order_status, payment_status, created_at, total_amount, item_count);
@@ -0,0 +1,7 @@
+ALTER TABLE carts ADD COLUMN item_count INT NOT NULL DEFAULT 0;
+ALTER TABLE carts ADD COLUMN subtotal DECIMAL(15, 2) NOT NULL DEFAULT 0;
+UPDATE carts c
+SET item_count = (SELECT COALESCE(SUM(ci.quantity), 0) FROM cart_item ci WHERE ci.cart_id = c.id),
+    subtotal = (SELECT COALESCE(SUM(ci.total_price), 0) FROM cart_item ci WHERE ci.cart_id = c.id);
+
+CREATE INDEX idx_cart_item_cart_product ON cart_item (cart_id, product_id);
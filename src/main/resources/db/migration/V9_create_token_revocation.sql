@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS token_revocation (
+    username VARCHAR(255) NOT NULL PRIMARY KEY,
+    revoked_before BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_token_revocation_updated (updated_at)
+);
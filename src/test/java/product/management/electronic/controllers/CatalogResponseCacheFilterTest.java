@@ -0,0 +1,103 @@
+package product.management.electronic.controllers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.config.CatalogResponseCacheFilter;
+import product.management.electronic.services.impl.CatalogResponseCacheImpl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogResponseCacheFilterTest {
+    private static final String BODY = "{\"status\":200,\"data\":[{\"name\":\"Laptop\"}]}";
+
+    private CatalogResponseCacheImpl catalogResponseCache;
+    private CatalogResponseCacheFilter filter;
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+    private final FilterChain controller = (request, response) -> {
+        controllerCalls.incrementAndGet();
+        response.setContentType("application/json");
+        response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    public void setUp() {
+        catalogResponseCache = new CatalogResponseCacheImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(catalogResponseCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(catalogResponseCache, "ttlSeconds", 60L);
+        catalogResponseCache.init();
+        filter = new CatalogResponseCacheFilter(catalogResponseCache);
+    }
+
+    @Test
+    public void testRepeatedReadIsServedFromCache() throws Exception {
+        MockHttpServletResponse first = perform(request());
+        MockHttpServletResponse second = perform(request());
+
+        assertEquals(1, controllerCalls.get());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testMatchingEtagReturnsNotModified() throws Exception {
+        String etag = perform(request()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = request();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = perform(conditional);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testGzipAndInvalidation() throws Exception {
+        perform(request());
+        MockHttpServletRequest gzipRequest = request();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        MockHttpServletResponse gzipped = perform(gzipRequest);
+        catalogResponseCache.invalidateAll();
+        perform(request());
+
+        assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(2, controllerCalls.get());
+    }
+
+    @Test
+    public void testUnknownParametersBypassCache() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request();
+            request.addParameter("cursor", "abc");
+            perform(request);
+        }
+
+        assertEquals(2, controllerCalls.get());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories/getAllCategories");
+        request.setServletPath("/api/categories/getAllCategories");
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
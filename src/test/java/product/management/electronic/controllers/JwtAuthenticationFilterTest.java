@@ -0,0 +1,119 @@
+package product.management.electronic.controllers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.config.JwtAuthenticationFilter;
+import product.management.electronic.dto.User.UserDto;
+import product.management.electronic.services.TokenRevocationService;
+import product.management.electronic.services.UserService;
+import product.management.electronic.services.impl.JwtTokenServiceImpl;
+import product.management.electronic.services.impl.VerifiedTokenCacheImpl;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class JwtAuthenticationFilterTest {
+    private final UserService userService = mock(UserService.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private JwtTokenServiceImpl jwtTokenService;
+    private JwtAuthenticationFilter filter;
+    private VerifiedTokenCacheImpl verifiedTokenCache;
+
+    @BeforeEach
+    public void setUp() {
+        jwtTokenService = new JwtTokenServiceImpl(userService, tokenRevocationService);
+        ReflectionTestUtils.setField(jwtTokenService, "secret", "test-secret-key-with-enough-entropy");
+        jwtTokenService.init();
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtTokenService", jwtTokenService);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", tokenRevocationService);
+        verifiedTokenCache = new VerifiedTokenCacheImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(verifiedTokenCache, "ttlSeconds", 60L);
+        verifiedTokenCache.init();
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", verifiedTokenCache);
+        UserDto admin = new UserDto();
+        admin.setUsername("admin");
+        admin.setRoles(Set.of("ROLE_USER", "ROLE_ADMIN"));
+        when(userService.findByUsername("admin")).thenReturn(admin);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testValidToken_AuthenticatesFromClaimsWithoutLoadingUser() throws Exception {
+        String token = jwtTokenService.createToken("admin");
+        clearInvocations(userService);
+
+        perform(token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void testTamperedSignature_LeavesRequestUnauthenticated() throws Exception {
+        String token = jwtTokenService.createToken("admin");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        perform(tampered);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    public void testRevokedToken_LeavesRequestUnauthenticated() throws Exception {
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+
+        perform(jwtTokenService.createToken("admin"));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    public void testRepeatedToken_IsVerifiedOnceAndStillCheckedForRevocation() throws Exception {
+        JwtTokenServiceImpl countingService = spy(jwtTokenService);
+        ReflectionTestUtils.setField(filter, "jwtTokenService", countingService);
+        String token = jwtTokenService.createToken("admin");
+
+        perform(token);
+        SecurityContextHolder.clearContext();
+        perform(token);
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+
+        SecurityContextHolder.clearContext();
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+        perform(token);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(countingService, times(1)).verifyToken(token);
+        verify(tokenRevocationService, times(3)).isRevoked(any());
+    }
+
+    private void perform(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setServletPath("/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
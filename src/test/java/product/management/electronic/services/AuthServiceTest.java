@@ -35,6 +35,9 @@ public class AuthServiceTest {
     @Mock
     private JwtTokenService jwtTokenService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -104,6 +107,7 @@ public class AuthServiceTest {
         authService.logout(authHeader);
         assertNull(mockUser.getRefreshToken());
         verify(userService).save(mockUser);
+        verify(tokenRevocationService).revokeAllFor("username");
     }
 
     @Test
@@ -0,0 +1,127 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import product.management.electronic.dto.Cart.CartDto;
+import product.management.electronic.dto.Cart.CartItemAddDto;
+import product.management.electronic.dto.Cart.CartSummaryDto;
+import product.management.electronic.dto.Cart.UpdateCartDto;
+import product.management.electronic.entities.Category;
+import product.management.electronic.entities.Product;
+import product.management.electronic.entities.User;
+import product.management.electronic.mapper.CartMapper;
+import product.management.electronic.repository.CartItemRepository;
+import product.management.electronic.services.impl.CartItemServiceImpl;
+import product.management.electronic.services.impl.CartServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cartsummary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CartServiceImpl.class, CartItemServiceImpl.class, CartMapper.class})
+public class CartSummaryTest {
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartItemService cartItemService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private ProductService productService;
+
+    private User user;
+    private Product laptop;
+    private Product mouse;
+
+    @BeforeEach
+    public void setUp() {
+        user = new User();
+        user.setUsername("cart-buyer");
+        user.setEmail("cart-buyer@example.com");
+        user.setPassword("secret");
+        entityManager.persist(user);
+        Category category = Category.builder().name("Laptop").type("laptop").build();
+        entityManager.persist(category);
+        laptop = product("Asus ROG Strix", "ROG-1", "32000000.50", category);
+        mouse = product("Logitech G502", "LOG-1", "1200000", category);
+        when(userService.getUserId(user.getId())).thenReturn(user);
+        when(productService.getProductById(laptop.getId())).thenReturn(laptop);
+        when(productService.getProductById(mouse.getId())).thenReturn(mouse);
+        when(productService.getAll(anyList())).thenReturn(Map.of(laptop.getId(), laptop, mouse.getId(), mouse));
+    }
+
+    @Test
+    public void testAddAndUpdate_KeepSummaryInSync() {
+        cartService.addToCart(new CartItemAddDto(user.getId(), laptop.getId(), 1));
+        cartService.addToCart(new CartItemAddDto(user.getId(), laptop.getId(), 1));
+        CartDto cart = cartService.addToCart(new CartItemAddDto(user.getId(), mouse.getId(), 2));
+
+        assertEquals(2, cart.getCartDetails().size());
+        assertEquals(4, cart.getItemCount());
+        assertEquals(0, new BigDecimal("66400001.00").compareTo(cart.getTotalPrice()));
+
+        UpdateCartDto removeLaptop = new UpdateCartDto();
+        removeLaptop.setProductId(laptop.getId());
+        removeLaptop.setQuantity(0);
+        UpdateCartDto moreMice = new UpdateCartDto();
+        moreMice.setProductId(mouse.getId());
+        moreMice.setQuantity(3);
+        CartDto updated = cartService.updateCart(cart.getId(), List.of(removeLaptop, moreMice));
+
+        assertEquals(1, updated.getCartDetails().size());
+        assertEquals(3, updated.getItemCount());
+        assertEquals(0, new BigDecimal("3600000").compareTo(updated.getTotalPrice()));
+    }
+
+    @Test
+    public void testDeleteAll_SubtractsCheckedOutItemsFromSummary() {
+        cartService.addToCart(new CartItemAddDto(user.getId(), laptop.getId(), 1));
+        CartDto cart = cartService.addToCart(new CartItemAddDto(user.getId(), mouse.getId(), 2));
+        entityManager.flush();
+
+        cartItemService.deleteAll(cartItemRepository.findAllByCartIdAndProductIdIn(cart.getId(), List.of(mouse.getId())));
+        entityManager.clear();
+        CartSummaryDto summary = cartService.getCartSummaryByUserId(user.getId());
+
+        assertEquals(1, summary.getItemCount());
+        assertEquals(0, new BigDecimal("32000000.50").compareTo(summary.getSubtotal()));
+    }
+
+    private Product product(String name, String sku, String price, Category category) {
+        Product product = new Product();
+        product.setName(name);
+        product.setSku(sku);
+        product.setPrice(new BigDecimal(price));
+        product.setQuantity(10);
+        product.setCategory(category);
+        entityManager.persist(product);
+        return product;
+    }
+}
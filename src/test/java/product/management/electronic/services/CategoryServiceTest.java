@@ -30,6 +30,9 @@ public class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CatalogResponseCache catalogResponseCache;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
     private UUID categoryId;
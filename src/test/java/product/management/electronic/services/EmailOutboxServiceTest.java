@@ -0,0 +1,205 @@
+package product.management.electronic.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.entities.EmailOutbox;
+import product.management.electronic.enums.EmailOutboxStatus;
+import product.management.electronic.repository.EmailOutboxRepository;
+import product.management.electronic.services.impl.EmailOutboxServiceImpl;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class EmailOutboxServiceTest {
+    private final EmailOutboxRepository emailOutboxRepository = mock(EmailOutboxRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SmtpStandIn smtp;
+    private EmailOutboxServiceImpl emailOutboxService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        smtp = new SmtpStandIn();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getPort());
+        emailOutboxService = new EmailOutboxServiceImpl(emailOutboxRepository, mailSender, meterRegistry);
+        ReflectionTestUtils.setField(emailOutboxService, "workers", 1);
+        ReflectionTestUtils.setField(emailOutboxService, "batchSize", 20);
+        ReflectionTestUtils.setField(emailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailOutboxService, "backoffBaseMillis", 1_000L);
+        ReflectionTestUtils.setField(emailOutboxService, "backoffMaxMillis", 60_000L);
+        ReflectionTestUtils.setField(emailOutboxService, "leaseMillis", 60_000L);
+        emailOutboxService.start();
+        when(emailOutboxRepository.claim(any(), eq(EmailOutboxStatus.PENDING), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        emailOutboxService.stop();
+        smtp.close();
+    }
+
+    @Test
+    public void testDeliverDue_SendsWholeBatchOverOneConnection() {
+        List<EmailOutbox> batch = List.of(email(1L, "a@example.com"), email(2L, "b@example.com"), email(3L, "c@example.com"));
+        dueEmails(batch);
+
+        assertEquals(3, emailOutboxService.deliverDue());
+
+        assertEquals(1, smtp.connections.get());
+        assertEquals(List.of("a@example.com", "b@example.com", "c@example.com"), smtp.recipients);
+        batch.forEach(email -> {
+            assertEquals(EmailOutboxStatus.SENT, email.getStatus());
+            assertNotNull(email.getSentAt());
+            assertEquals("", email.getBody());
+        });
+        assertEquals(3.0, meterRegistry.counter("mail.outbox.sent").count());
+    }
+
+    @Test
+    public void testDeliverDue_BacksOffRejectedRecipientOnly() {
+        EmailOutbox delivered = email(1L, "a@example.com");
+        EmailOutbox rejected = email(2L, "bounce@example.com");
+        dueEmails(List.of(delivered, rejected));
+
+        emailOutboxService.deliverDue();
+
+        assertEquals(EmailOutboxStatus.SENT, delivered.getStatus());
+        assertEquals(EmailOutboxStatus.PENDING, rejected.getStatus());
+        assertEquals(1, rejected.getAttempts());
+        assertTrue(rejected.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(rejected.getLastError());
+        assertEquals("<p>Xin chào</p>", rejected.getBody());
+        verify(emailOutboxRepository).save(rejected);
+    }
+
+    @Test
+    public void testDeliverDue_GivesUpAfterMaxAttemptsWhenServerIsDown() throws IOException {
+        smtp.close();
+        EmailOutbox email = email(1L, "a@example.com");
+        email.setAttempts(2);
+        dueEmails(List.of(email));
+
+        emailOutboxService.deliverDue();
+
+        assertEquals(EmailOutboxStatus.FAILED, email.getStatus());
+        assertEquals(3, email.getAttempts());
+        assertEquals("", email.getBody());
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.failed").count());
+    }
+
+    @Test
+    public void testDeliverDue_SkipsEmailsClaimedByAnotherWorker() {
+        EmailOutbox email = email(1L, "a@example.com");
+        dueEmails(List.of(email));
+        when(emailOutboxRepository.claim(eq(1L), eq(EmailOutboxStatus.PENDING), any(), any())).thenReturn(0);
+
+        emailOutboxService.deliverDue();
+
+        assertEquals(0, smtp.connections.get());
+        assertEquals(EmailOutboxStatus.PENDING, email.getStatus());
+        verify(emailOutboxRepository, never()).save(any());
+    }
+
+    private void dueEmails(List<EmailOutbox> emails) {
+        when(emailOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(EmailOutboxStatus.PENDING), any(), any()))
+                .thenReturn(emails);
+    }
+
+    private EmailOutbox email(Long id, String recipient) {
+        EmailOutbox email = new EmailOutbox();
+        email.setId(id);
+        email.setRecipient(recipient);
+        email.setSubject("Kích hoạt tài khoản của bạn");
+        email.setBody("<p>Xin chào</p>");
+        email.setStatus(EmailOutboxStatus.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        email.setCreatedAt(LocalDateTime.now());
+        return email;
+    }
+
+    private static final class SmtpStandIn implements Closeable {
+        private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+        private SmtpStandIn() throws IOException {
+            Thread acceptor = new Thread(this::accept, "smtp-stand-in");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    connections.incrementAndGet();
+                    converse(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void converse(Socket socket) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+            reply(out, "220 localhost ESMTP stand-in");
+            String pendingRecipient = null;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("RCPT TO:")) {
+                    String recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                    if (recipient.startsWith("bounce")) {
+                        reply(out, "550 No such user");
+                    } else {
+                        pendingRecipient = recipient;
+                        reply(out, "250 OK");
+                    }
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    do {
+                        line = in.readLine();
+                    } while (line != null && !line.equals("."));
+                    recipients.add(pendingRecipient);
+                    reply(out, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        }
+
+        private void reply(Writer out, String response) throws IOException {
+            out.write(response + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
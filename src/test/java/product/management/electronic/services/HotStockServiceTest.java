@@ -0,0 +1,114 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import product.management.electronic.entities.OrderItem;
+import product.management.electronic.entities.Product;
+import product.management.electronic.exceptions.ResourceNotFoundException;
+import product.management.electronic.repository.OrderItemRepository;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.impl.HotStockServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class HotStockServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    private HotStockServiceImpl hotStockService;
+    private Product hot;
+    private Product other;
+
+    @BeforeEach
+    public void setUp() {
+        hotStockService = new HotStockServiceImpl(productRepository, orderItemRepository, List.of());
+        hot = product(100);
+        other = product(1);
+        when(productRepository.findById(hot.getId())).thenReturn(Optional.of(hot));
+        when(orderItemRepository.sumPendingQuantity(hot.getId())).thenReturn(10L);
+        hotStockService.setHotSku(hot.getId(), true);
+    }
+
+    @Test
+    public void testReserve_NoOversellAcrossThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        List<Future<?>> checkouts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            checkouts.add(pool.submit(() -> {
+                start.await();
+                try {
+                    hotStockService.reserve(List.of(orderItem(hot, 1)));
+                    reserved.incrementAndGet();
+                } catch (ResourceNotFoundException ignored) {
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> checkout : checkouts) {
+            checkout.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(90, reserved.get());
+    }
+
+    @Test
+    public void testReserve_MarksItemsPendingAndReleasesOnFailure() {
+        OrderItem first = orderItem(hot, 40);
+        hotStockService.reserve(List.of(first));
+        assertFalse(first.isStockApplied());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> hotStockService.reserve(List.of(orderItem(hot, 30), orderItem(other, 1))));
+
+        hotStockService.reserve(List.of(orderItem(hot, 50)));
+        assertThrows(ResourceNotFoundException.class, () -> hotStockService.reserve(List.of(orderItem(hot, 1))));
+        assertTrue(hotStockService.isHot(hot.getId()));
+        assertFalse(hotStockService.isHot(other.getId()));
+    }
+
+    @Test
+    public void testProductSaved_AdjustsCounterWithoutReturningInFlightReservations() {
+        hotStockService.reserve(List.of(orderItem(hot, 40)));
+
+        hot.setQuantity(110);
+        hotStockService.onProductSaved(hot);
+
+        hotStockService.reserve(List.of(orderItem(hot, 60)));
+        assertThrows(ResourceNotFoundException.class, () -> hotStockService.reserve(List.of(orderItem(hot, 1))));
+    }
+
+    private Product product(int quantity) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("Product " + quantity);
+        product.setQuantity(quantity);
+        return product;
+    }
+
+    private OrderItem orderItem(Product product, int quantity) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setProduct(product);
+        orderItem.setProductName(product.getName());
+        orderItem.setQuantity(quantity);
+        return orderItem;
+    }
+}
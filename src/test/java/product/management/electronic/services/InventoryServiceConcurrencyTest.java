@@ -0,0 +1,126 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import product.management.electronic.entities.Category;
+import product.management.electronic.entities.OrderItem;
+import product.management.electronic.entities.Product;
+import product.management.electronic.exceptions.ResourceNotFoundException;
+import product.management.electronic.repository.CategoryRepository;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.impl.InventoryServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inventory;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(InventoryServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class InventoryServiceConcurrencyTest {
+    private static final int CHECKOUTS = 300;
+    private static final int STOCK = 50;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ProductChangeListener productChangeListener;
+
+    @MockitoBean
+    private HotStockService hotStockService;
+
+    @Test
+    public void testReserve_NoOversellUnderParallelCheckouts() throws Exception {
+        Product product = saveProduct("HOT-SKU", STOCK);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> checkouts = new ArrayList<>();
+        for (int i = 0; i < CHECKOUTS; i++) {
+            checkouts.add(pool.submit(() -> {
+                start.await();
+                try {
+                    transaction.executeWithoutResult(status -> inventoryService.reserve(List.of(orderItem(product, 1))));
+                    reserved.incrementAndGet();
+                } catch (ResourceNotFoundException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> checkout : checkouts) {
+            checkout.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(STOCK, reserved.get());
+        assertEquals(CHECKOUTS - STOCK, rejected.get());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    public void testReserve_RollsBackEveryItemWhenOneIsShort() {
+        Product plenty = saveProduct("PLENTY-SKU", 10);
+        Product scarce = saveProduct("SCARCE-SKU", 1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThrows(ResourceNotFoundException.class, () -> transaction.executeWithoutResult(status ->
+                inventoryService.reserve(List.of(orderItem(plenty, 3), orderItem(scarce, 2)))));
+
+        assertEquals(10, productRepository.findById(plenty.getId()).orElseThrow().getQuantity());
+        assertEquals(1, productRepository.findById(scarce.getId()).orElseThrow().getQuantity());
+    }
+
+    private Product saveProduct(String sku, int quantity) {
+        Category category = categoryRepository.save(Category.builder().name("Category " + sku).type("laptop").build());
+        Product product = new Product();
+        product.setName("Product " + sku);
+        product.setSku(sku);
+        product.setPrice(new BigDecimal("1000000"));
+        product.setQuantity(quantity);
+        product.setCategory(category);
+        return productRepository.save(product);
+    }
+
+    private OrderItem orderItem(Product product, int quantity) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setProduct(product);
+        orderItem.setProductName(product.getName());
+        orderItem.setQuantity(quantity);
+        return orderItem;
+    }
+}
@@ -0,0 +1,127 @@
+package product.management.electronic.services;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import product.management.electronic.utils.JwtTokenCodec;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenCodecTest {
+    private static final String SECRET = "test-secret-key-with-enough-entropy";
+
+    private final JwtTokenCodec codec = new JwtTokenCodec(SECRET);
+
+    @Test
+    public void testSign_ProducesStandardHs256Token() throws Exception {
+        String token = codec.sign(new JSONObject().put("userName", "admin").put("exp", 1L));
+
+        String[] parts = token.split("\\.");
+        assertEquals(3, parts.length);
+        assertEquals("{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+                new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String expected = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal((parts[0] + "." + parts[1]).getBytes(StandardCharsets.UTF_8)));
+        assertEquals(expected, parts[2]);
+    }
+
+    @Test
+    public void testVerify_RoundTripsPayload() {
+        String token = codec.sign(new JSONObject().put("userName", "Nguyễn").put("exp", 42L));
+
+        JSONObject payload = codec.verify(token);
+
+        assertNotNull(payload);
+        assertEquals("Nguyễn", payload.getString("userName"));
+        assertEquals(42L, payload.getLong("exp"));
+    }
+
+    @Test
+    public void testVerify_RejectsTamperedOrForeignTokens() {
+        String token = codec.sign(new JSONObject().put("userName", "admin"));
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"userName\":\"root\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(codec.verify(parts[0] + "." + forgedPayload + "." + parts[2]));
+        assertNull(new JwtTokenCodec("another-secret").verify(token));
+        assertNull(codec.verify(parts[0] + "." + parts[1] + ".not*base64"));
+        assertNull(codec.verify("no-dots"));
+        assertNull(codec.verify(null));
+    }
+
+    @Test
+    public void testSignAndVerify_AreSafeAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String userName = "user-" + i;
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        JSONObject payload = codec.verify(codec.sign(new JSONObject().put("userName", userName).put("n", j)));
+                        if (payload == null || !userName.equals(payload.getString("userName")) || payload.getInt("n") != j) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRotation_AcceptsPreviousKeysAndLegacyTokens() {
+        JwtTokenCodec before = new JwtTokenCodec("2024-01", "old-secret", Map.of());
+        JwtTokenCodec after = new JwtTokenCodec("2024-02", "new-secret", Map.of("2024-01", "old-secret"));
+        String oldToken = before.sign(new JSONObject().put("userName", "admin"));
+        String newToken = after.sign(new JSONObject().put("userName", "admin"));
+        String legacyToken = new JwtTokenCodec("new-secret").sign(new JSONObject().put("userName", "admin"));
+
+        assertEquals("2024-02", new JSONObject(new String(Base64.getUrlDecoder().decode(newToken.split("\\.")[0]),
+                StandardCharsets.UTF_8)).getString("kid"));
+        assertNotNull(after.verify(oldToken));
+        assertNotNull(after.verify(newToken));
+        assertNotNull(after.verify(legacyToken));
+        assertNull(before.verify(newToken));
+        assertNull(new JwtTokenCodec("2024-03", "newest-secret", Map.of("2024-02", "new-secret")).verify(oldToken));
+    }
+
+    @Test
+    public void testRotation_FromKidlessKeyKeepsExistingTokensValid() {
+        String existingToken = new JwtTokenCodec("old-secret").sign(new JSONObject().put("userName", "admin"));
+        JwtTokenCodec rotated = new JwtTokenCodec("2024-02", "new-secret", Map.of(JwtTokenCodec.LEGACY_KEY_ID, "old-secret"));
+        String forgedLegacyToken = new JwtTokenCodec("new-secret").sign(new JSONObject().put("userName", "admin"));
+
+        assertNotNull(rotated.verify(existingToken));
+        assertNotNull(rotated.verify(rotated.sign(new JSONObject().put("userName", "admin"))));
+        assertNull(rotated.verify(forgedLegacyToken));
+        assertNull(new JwtTokenCodec("2024-02", "new-secret", Map.of()).verify(existingToken));
+    }
+
+    @Test
+    public void testConstructor_RejectsEmptySecret() {
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec(""));
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec("a", "secret", Map.of("a", "other")));
+        assertThrows(IllegalArgumentException.class, () -> new JwtTokenCodec(JwtTokenCodec.LEGACY_KEY_ID, "secret", Map.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JwtTokenCodec(null, "secret", Map.of(JwtTokenCodec.LEGACY_KEY_ID, "other")));
+    }
+}
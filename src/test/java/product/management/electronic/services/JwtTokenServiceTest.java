@@ -0,0 +1,78 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.dto.User.UserDto;
+import product.management.electronic.entities.TokenRevocation;
+import product.management.electronic.exceptions.ForbiddenException;
+import product.management.electronic.repository.TokenRevocationRepository;
+import product.management.electronic.repository.UserRepository;
+import product.management.electronic.services.impl.JwtTokenServiceImpl;
+import product.management.electronic.services.impl.TokenRevocationServiceImpl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static product.management.electronic.constants.MessageConstant.REFRESH_TOKEN_REVOKED;
+
+public class JwtTokenServiceTest {
+    private final UserService userService = mock(UserService.class);
+    private final TokenRevocationRepository tokenRevocationRepository = mock(TokenRevocationRepository.class);
+    private final Map<String, TokenRevocation> revocations = new HashMap<>();
+    private TokenRevocationServiceImpl tokenRevocationService;
+    private JwtTokenServiceImpl jwtTokenService;
+
+    @BeforeEach
+    public void setUp() {
+        when(tokenRevocationRepository.save(any(TokenRevocation.class))).thenAnswer(invocation -> {
+            TokenRevocation revocation = invocation.getArgument(0);
+            revocations.put(revocation.getUsername(), revocation);
+            return revocation;
+        });
+        when(tokenRevocationRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(revocations.get(invocation.<String>getArgument(0))));
+        when(tokenRevocationRepository.findAllByUpdatedAtAfter(any())).thenReturn(List.of());
+        tokenRevocationService = new TokenRevocationServiceImpl(mock(UserRepository.class), tokenRevocationRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedUsers", 1000);
+        tokenRevocationService.sync();
+
+        jwtTokenService = new JwtTokenServiceImpl(userService, tokenRevocationService);
+        ReflectionTestUtils.setField(jwtTokenService, "secret", "test-secret-key-with-enough-entropy");
+        jwtTokenService.init();
+        UserDto user = new UserDto();
+        user.setUsername("alice");
+        user.setRoles(Set.of("ROLE_USER"));
+        when(userService.findByUsername("alice")).thenReturn(user);
+    }
+
+    @Test
+    public void testCreateRefreshToken_IssuesNewTokenForLiveSession() {
+        String refreshToken = jwtTokenService.refreshToken("alice");
+
+        String accessToken = jwtTokenService.createRefreshToken(refreshToken);
+
+        assertEquals("alice", jwtTokenService.verifyToken(accessToken).getUsername());
+    }
+
+    @Test
+    public void testCreateRefreshToken_RejectsTokenIssuedBeforeLogout() throws InterruptedException {
+        String refreshToken = jwtTokenService.refreshToken("alice");
+
+        tokenRevocationService.revokeAllFor("alice");
+
+        ForbiddenException exception = assertThrows(ForbiddenException.class,
+                () -> jwtTokenService.createRefreshToken(refreshToken));
+        assertEquals(REFRESH_TOKEN_REVOKED, exception.getMessage());
+        Thread.sleep(2);
+        String freshToken = jwtTokenService.refreshToken("alice");
+        assertNotNull(jwtTokenService.createRefreshToken(freshToken));
+    }
+}
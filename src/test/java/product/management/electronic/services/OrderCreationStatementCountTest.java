@@ -0,0 +1,115 @@
+package product.management.electronic.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import product.management.electronic.dto.Order.OrderCreateRequestDto;
+import product.management.electronic.dto.Order.OrderDto;
+import product.management.electronic.entities.*;
+import product.management.electronic.mapper.OrderMapper;
+import product.management.electronic.services.impl.CartItemServiceImpl;
+import product.management.electronic.services.impl.InventoryServiceImpl;
+import product.management.electronic.services.impl.OrderServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:orderbatch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderServiceImpl.class, InventoryServiceImpl.class, CartItemServiceImpl.class, OrderMapper.class})
+public class OrderCreationStatementCountTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private DailyRevenueService dailyRevenueService;
+
+    @MockitoBean
+    private HotStockService hotStockService;
+
+    @MockitoBean
+    private ProductChangeListener productChangeListener;
+
+    @Test
+    public void testCreateOrderFromCart_StatementCountDoesNotGrowWithItems() {
+        long twoItems = statementsForOrderOf(2);
+        long twentyItems = statementsForOrderOf(20);
+
+        assertEquals(twoItems, twentyItems);
+    }
+
+    private long statementsForOrderOf(int itemCount) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername("buyer-" + suffix);
+        user.setEmail("buyer-" + suffix + "@example.com");
+        user.setPassword("secret");
+        entityManager.persist(user);
+        Cart cart = new Cart();
+        cart.setUsers(user);
+        entityManager.persist(cart);
+        Category category = Category.builder().name("Category " + suffix).type("laptop").build();
+        entityManager.persist(category);
+        List<UUID> cartItemIds = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Product product = new Product();
+            product.setName("Product " + suffix + " " + i);
+            product.setSku(suffix + "-" + i);
+            product.setPrice(new BigDecimal("1000000"));
+            product.setQuantity(10);
+            product.setCategory(category);
+            entityManager.persist(product);
+            CartItem cartItem = new CartItem();
+            cartItem.setCart(cart);
+            cartItem.setProduct(product);
+            cartItem.setNameProduct(product.getName());
+            cartItem.setQuantity(2);
+            cartItem.setUnitPrice(1_000_000);
+            cartItem.setTotalPrice(2_000_000);
+            cartItemIds.add(entityManager.persistAndFlush(cartItem).getId());
+        }
+        entityManager.clear();
+        when(cartService.findUser(user.getId())).thenReturn(entityManager.find(Cart.class, cart.getId()));
+        OrderCreateRequestDto request = new OrderCreateRequestDto();
+        request.setCartItemIds(cartItemIds);
+        request.setShippingAddress("District 1, Ho Chi Minh City");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        OrderDto order = orderService.createOrderFromCart(request, user.getId());
+        entityManager.flush();
+
+        assertEquals(itemCount + 1, statistics.getEntityInsertCount());
+        assertEquals(0, new BigDecimal(2_000_000L * itemCount).compareTo(order.getTotalAmount()));
+        assertEquals(2 * itemCount, order.getItemCount());
+        return statistics.getPrepareStatementCount();
+    }
+}
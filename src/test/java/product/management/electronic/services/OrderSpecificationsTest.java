@@ -0,0 +1,94 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import product.management.electronic.entities.Order;
+import product.management.electronic.entities.User;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.OrderRepository;
+import product.management.electronic.repository.specification.OrderSpecifications;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:orderfilter;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class OrderSpecificationsTest {
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User buyer;
+
+    @BeforeEach
+    public void setUp() {
+        buyer = user("buyer");
+        User other = user("other");
+        order(buyer, OrderStatus.PENDING, PaymentStatus.PAID);
+        order(buyer, OrderStatus.PENDING, PaymentStatus.UNPAID);
+        order(buyer, OrderStatus.COMPLETED, PaymentStatus.PAID);
+        order(buyer, OrderStatus.PENDING, PaymentStatus.UNPAID);
+        order(buyer, OrderStatus.PENDING, PaymentStatus.PAID);
+        order(other, OrderStatus.PENDING, PaymentStatus.PAID);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testFindAll_FiltersInSqlWithExactTotals() {
+        Specification<Order> specification = Specification.where(OrderSpecifications.belongsTo(buyer.getId()))
+                .and(OrderSpecifications.hasOrderStatus(null))
+                .and(OrderSpecifications.hasPaymentStatus(PaymentStatus.PAID));
+
+        Page<Order> page = orderRepository.findAll(specification, PageRequest.of(0, 2, Sort.by("createdAt").descending()));
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    public void testFindAll_CombinesStatusAndDateRange() {
+        Specification<Order> specification = Specification.where(OrderSpecifications.belongsTo(buyer.getId()))
+                .and(OrderSpecifications.hasOrderStatus(OrderStatus.PENDING))
+                .and(OrderSpecifications.hasPaymentStatus(PaymentStatus.UNPAID))
+                .and(OrderSpecifications.createdFrom(LocalDateTime.now().minusDays(1)))
+                .and(OrderSpecifications.createdBefore(LocalDateTime.now().plusDays(1)));
+
+        assertEquals(2, orderRepository.findAll(specification, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        return entityManager.persist(user);
+    }
+
+    private void order(User user, OrderStatus orderStatus, PaymentStatus paymentStatus) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setOrderStatus(orderStatus);
+        order.setPaymentStatus(paymentStatus);
+        entityManager.persist(order);
+    }
+}
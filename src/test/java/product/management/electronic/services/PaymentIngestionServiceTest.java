@@ -0,0 +1,60 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.services.impl.PaymentIngestionServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class PaymentIngestionServiceTest {
+    private final PaymentReconciliationService paymentReconciliationService = mock(PaymentReconciliationService.class);
+    private final PaymentSource paymentSource = mock(PaymentSource.class);
+    private PaymentIngestionServiceImpl paymentIngestionService;
+
+    @BeforeEach
+    public void setUp() {
+        paymentIngestionService = new PaymentIngestionServiceImpl(paymentReconciliationService, List.of(paymentSource));
+        ReflectionTestUtils.setField(paymentIngestionService, "capacity", 2);
+        ReflectionTestUtils.setField(paymentIngestionService, "workers", 1);
+        ReflectionTestUtils.setField(paymentIngestionService, "batchSize", 10);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        paymentIngestionService.stop();
+    }
+
+    @Test
+    public void testPollSources_AcknowledgesAfterTransactionsReachWorkers() throws Exception {
+        paymentIngestionService.start();
+        when(paymentSource.getName()).thenReturn("test");
+        when(paymentSource.poll()).thenReturn(List.of(transaction("ORDER1")));
+
+        paymentIngestionService.pollSources();
+
+        verify(paymentSource).acknowledge();
+        verify(paymentReconciliationService, timeout(1000)).reconcile(anyCollection());
+    }
+
+    @Test
+    public void testOffer_RejectsBatchLargerThanRemainingCapacity() {
+        paymentIngestionService.start();
+
+        assertFalse(paymentIngestionService.offer(List.of(transaction("ORDER1"), transaction("ORDER2"), transaction("ORDER3"))));
+        assertTrue(paymentIngestionService.offer(List.of(transaction("ORDER4"))));
+        verify(paymentReconciliationService, timeout(1000)).reconcile(anyCollection());
+    }
+
+    private PaymentTransactionDto transaction(String content) {
+        return new PaymentTransactionDto(content, BigDecimal.TEN);
+    }
+}
@@ -0,0 +1,90 @@
+package product.management.electronic.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.OrderRepository;
+import product.management.electronic.services.impl.PaymentReconciliationServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reconcile;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaymentReconciliationServiceImpl.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PaymentReconciliationConcurrencyTest {
+    private static final int ORDERS = 20;
+
+    @Autowired
+    private PaymentReconciliationService paymentReconciliationService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private DailyRevenueService dailyRevenueService;
+
+    @Test
+    public void testReconcile_SameOrderFromTwoWorkersIsPaidOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        AtomicInteger matched = new AtomicInteger();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = saveOrder();
+            List<PaymentTransactionDto> transactions = List.of(new PaymentTransactionDto(
+                    order.getId().toString().replace("-", ""), order.getTotalAmount()));
+            CyclicBarrier start = new CyclicBarrier(2);
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < 2; worker++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    matched.addAndGet(paymentReconciliationService.reconcile(transactions));
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(PaymentStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getPaymentStatus());
+        }
+        pool.shutdown();
+
+        assertEquals(ORDERS, matched.get());
+        verify(dailyRevenueService, times(ORDERS)).recordTransition(any(), eq(OrderStatus.COMPLETED), eq(PaymentStatus.UNPAID));
+    }
+
+    private Order saveOrder() {
+        Order order = new Order();
+        order.setOrderStatus(OrderStatus.COMPLETED);
+        order.setPaymentStatus(PaymentStatus.UNPAID);
+        order.setTotalAmount(new BigDecimal("1500000.00"));
+        order.setItemCount(1);
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,105 @@
+package product.management.electronic.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.entities.Order;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.enums.PaymentStatus;
+import product.management.electronic.repository.OrderRepository;
+import product.management.electronic.services.impl.PaymentReconciliationServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentReconciliationServiceTest {
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DailyRevenueService dailyRevenueService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReconciliationServiceImpl paymentReconciliationService;
+
+    private Order order;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentReconciliationService = new PaymentReconciliationServiceImpl(orderRepository, dailyRevenueService, meterRegistry);
+        order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setOrderStatus(OrderStatus.PENDING);
+        order.setPaymentStatus(PaymentStatus.UNPAID);
+        order.setTotalAmount(new BigDecimal("1500000.00"));
+    }
+
+    @Test
+    public void testReconcile_MarksMatchingOrderPaidWithSingleLookup() {
+        when(orderRepository.findAllByIdInAndPaymentStatus(Set.of(order.getId()), PaymentStatus.UNPAID))
+                .thenReturn(List.of(order));
+        when(orderRepository.updatePaymentStatus(order.getId(), PaymentStatus.UNPAID, PaymentStatus.PAID)).thenReturn(1);
+
+        int matched = paymentReconciliationService.reconcile(List.of(
+                new PaymentTransactionDto(content(order.getId()) + " chuyen tien", new BigDecimal("1500000")),
+                new PaymentTransactionDto("khong co ma don", new BigDecimal("1500000"))));
+
+        assertEquals(1, matched);
+        assertEquals(PaymentStatus.PAID, order.getPaymentStatus());
+        verify(orderRepository, times(1)).findAllByIdInAndPaymentStatus(any(), eq(PaymentStatus.UNPAID));
+        verify(dailyRevenueService).recordTransition(order, OrderStatus.PENDING, PaymentStatus.UNPAID);
+        assertEquals(1.0, meterRegistry.get("payment.reconciliation.matched").counter().count());
+    }
+
+    @Test
+    public void testReconcile_AmountMismatchLeavesOrderUnpaid() {
+        when(orderRepository.findAllByIdInAndPaymentStatus(Set.of(order.getId()), PaymentStatus.UNPAID))
+                .thenReturn(List.of(order));
+
+        int matched = paymentReconciliationService.reconcile(List.of(
+                new PaymentTransactionDto(content(order.getId()), new BigDecimal("1400000"))));
+
+        assertEquals(0, matched);
+        assertEquals(PaymentStatus.UNPAID, order.getPaymentStatus());
+        verifyNoInteractions(dailyRevenueService);
+    }
+
+    @Test
+    public void testReconcile_OrderAlreadyPaidByAnotherWorkerIsNotCountedAgain() {
+        when(orderRepository.findAllByIdInAndPaymentStatus(Set.of(order.getId()), PaymentStatus.UNPAID))
+                .thenReturn(List.of(order));
+        when(orderRepository.updatePaymentStatus(order.getId(), PaymentStatus.UNPAID, PaymentStatus.PAID)).thenReturn(0);
+
+        int matched = paymentReconciliationService.reconcile(List.of(
+                new PaymentTransactionDto(content(order.getId()), new BigDecimal("1500000"))));
+
+        assertEquals(0, matched);
+        verifyNoInteractions(dailyRevenueService);
+    }
+
+    @Test
+    public void testReconcile_NoParsableContentSkipsRepository() {
+        int matched = paymentReconciliationService.reconcile(List.of(
+                new PaymentTransactionDto("abc", new BigDecimal("10"))));
+
+        assertEquals(0, matched);
+        verifyNoInteractions(orderRepository);
+    }
+
+    private String content(UUID orderId) {
+        return orderId.toString().replace("-", "");
+    }
+}
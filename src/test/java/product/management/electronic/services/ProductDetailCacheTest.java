@@ -0,0 +1,66 @@
+package product.management.electronic.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.services.impl.ProductDetailCacheImpl;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ProductDetailCacheTest {
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCacheImpl productDetailCache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final UUID productId = UUID.randomUUID();
+    private final Function<UUID, ProductDto> loader = id -> {
+        loads.incrementAndGet();
+        return ProductDto.builder().id(id).name("Asus ROG Strix").price(new BigDecimal("32000000")).quantity(5).build();
+    };
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productDetailCache = new ProductDetailCacheImpl(meterRegistry);
+        ReflectionTestUtils.setField(productDetailCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(productDetailCache, "ttlSeconds", 60L);
+        productDetailCache.init();
+    }
+
+    @Test
+    public void testGet_SecondReadIsServedFromCache() {
+        productDetailCache.get(productId, loader);
+        ProductDto cached = productDetailCache.get(productId, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals("Asus ROG Strix", cached.getName());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    public void testGet_StockChangeInvalidatesEntry() {
+        productDetailCache.get(productId, loader);
+
+        productDetailCache.onStockChanged(productId, 4);
+        productDetailCache.get(productId, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGet_DeleteInvalidatesEntry() {
+        productDetailCache.get(productId, loader);
+
+        productDetailCache.onProductDeleted(productId);
+        productDetailCache.get(productId, loader);
+
+        assertEquals(2, loads.get());
+    }
+}
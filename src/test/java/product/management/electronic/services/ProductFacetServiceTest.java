@@ -0,0 +1,116 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import product.management.electronic.dto.Product.ProductFilterDto;
+import product.management.electronic.entities.Category;
+import product.management.electronic.entities.Product;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.impl.ProductFacetServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductFacetServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductFacetServiceImpl productFacetService;
+
+    private Category laptops;
+    private Category mice;
+    private Product rog;
+    private Product zenbook;
+    private Product mouse;
+
+    @BeforeEach
+    public void setUp() {
+        laptops = category("Laptop");
+        mice = category("Chuột");
+        rog = product("Asus ROG Strix", "Asus", "32000000", 5, true, laptops);
+        zenbook = product("Asus Zenbook", "Asus", "18000000", 0, false, laptops);
+        mouse = product("Logitech G502", "Logitech", "1200000", 20, false, mice);
+        productFacetService.onProductSaved(rog);
+        productFacetService.onProductSaved(zenbook);
+        productFacetService.onProductSaved(mouse);
+    }
+
+    @Test
+    public void testBrowse_FiltersAndCountsFacetsDisjunctively() {
+        ProductFilterDto filter = new ProductFilterDto();
+        filter.setBrands(List.of("asus"));
+
+        ProductFacetService.FacetPage page = productFacetService.browse(filter, 0, 10);
+
+        assertEquals(List.of(rog.getId(), zenbook.getId()), page.productIds());
+        assertEquals(2, page.totalItems());
+        assertEquals(2L, page.facets().getBrands().get("Asus"));
+        assertEquals(1L, page.facets().getBrands().get("Logitech"));
+        assertEquals(2L, page.facets().getCategories().get(laptops.getId()));
+        assertEquals(1L, page.facets().getAvailability().get("inStock"));
+        assertEquals(1L, page.facets().getPriceRanges().get("30000000+"));
+    }
+
+    @Test
+    public void testBrowse_PriceRangeAndStock() {
+        ProductFilterDto filter = new ProductFilterDto();
+        filter.setMaxPrice(new BigDecimal("20000000"));
+        filter.setInStock(true);
+
+        ProductFacetService.FacetPage page = productFacetService.browse(filter, 0, 10);
+
+        assertEquals(List.of(mouse.getId()), page.productIds());
+        assertEquals(2L, page.facets().getAvailability().get("outOfStock") + page.facets().getAvailability().get("inStock"));
+    }
+
+    @Test
+    public void testBrowse_ReflectsStockChangeAndDeletion() {
+        productFacetService.onStockChanged(zenbook.getId(), 3);
+        productFacetService.onProductDeleted(rog.getId());
+        ProductFilterDto filter = new ProductFilterDto();
+        filter.setInStock(true);
+
+        ProductFacetService.FacetPage page = productFacetService.browse(filter, 0, 10);
+
+        assertEquals(List.of(zenbook.getId(), mouse.getId()), page.productIds());
+        assertEquals(1L, page.facets().getBrands().get("Asus"));
+    }
+
+    @Test
+    public void testBrowse_PagesInNameOrderAfterRename() {
+        rog.setName("Zephyrus G14");
+        productFacetService.onProductSaved(rog);
+
+        ProductFilterDto filter = new ProductFilterDto();
+        assertEquals(List.of(zenbook.getId(), mouse.getId()), productFacetService.browse(filter, 0, 2).productIds());
+        assertEquals(List.of(rog.getId()), productFacetService.browse(filter, 1, 2).productIds());
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName(name);
+        return category;
+    }
+
+    private Product product(String name, String brand, String price, int quantity, boolean featured, Category category) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName(name);
+        product.setBrand(brand);
+        product.setPrice(new BigDecimal(price));
+        product.setQuantity(quantity);
+        product.setFeatured(featured);
+        product.setCategory(category);
+        return product;
+    }
+}
@@ -0,0 +1,123 @@
+package product.management.electronic.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import product.management.electronic.config.AppConfig;
+import product.management.electronic.dto.Product.ProductDto;
+import product.management.electronic.entities.Category;
+import product.management.electronic.entities.Product;
+import product.management.electronic.enums.ExportFormat;
+import product.management.electronic.mapper.ProductMapper;
+import product.management.electronic.repository.CategoryRepository;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.response.ScrollResponse;
+import product.management.electronic.services.impl.ProductServiceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:productscroll;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductServiceImpl.class, ProductMapper.class, AppConfig.class})
+public class ProductScrollExportTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @MockitoBean
+    private CategoryService categoryService;
+
+    @MockitoBean
+    private CloudinaryService cloudinaryService;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ProductSearchService productSearchService;
+
+    @MockitoBean
+    private ProductFacetService productFacetService;
+
+    @MockitoBean
+    private ProductDetailCache productDetailCache;
+
+    private Category category;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(Category.builder().name("Laptop").type("laptop").build());
+    }
+
+    @Test
+    public void testScrollProducts_PagesAcrossDuplicatePricesWithoutSkippingOrRepeating() {
+        Set<UUID> saved = new HashSet<>();
+        String[] prices = {"300", "100", "200", "100", "300", "100", "200"};
+        for (int i = 0; i < prices.length; i++) {
+            saved.add(saveProduct("Laptop " + i, "SKU-" + i, prices[i], null).getId());
+        }
+
+        List<ProductDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ScrollResponse<ProductDto> page = productService.scrollProducts(null, cursor, 2, true, "price");
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasNext());
+            assertTrue(++pages <= prices.length, "scrolling did not terminate");
+        } while (cursor != null);
+
+        assertEquals(prices.length, seen.size());
+        assertEquals(saved, new HashSet<>(seen.stream().map(ProductDto::getId).toList()));
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getPrice().compareTo(seen.get(i).getPrice()) >= 0);
+        }
+    }
+
+    @Test
+    public void testExportProducts_EscapesCsvSpecialCharacters() throws IOException {
+        Product quoted = saveProduct("Laptop, \"Pro\" 14", "PLAIN-SKU", "100.00", "Line one\nLine two");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        productService.exportProducts(ExportFormat.CSV, output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,name,sku,brand,price,quantity,thumbnail,categoryId,isFeatured,description\n"));
+        assertEquals(quoted.getId() + ",\"Laptop, \"\"Pro\"\" 14\",PLAIN-SKU,,100.00,1,," + category.getId()
+                + ",false,\"Line one\nLine two\"\n", csv.substring(csv.indexOf('\n') + 1));
+    }
+
+    private Product saveProduct(String name, String sku, String price, String description) {
+        Product product = new Product();
+        product.setName(name);
+        product.setSku(sku);
+        product.setPrice(new BigDecimal(price));
+        product.setQuantity(1);
+        product.setDescription(description);
+        product.setCategory(category);
+        return productRepository.saveAndFlush(product);
+    }
+}
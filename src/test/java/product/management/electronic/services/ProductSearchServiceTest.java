@@ -0,0 +1,125 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import product.management.electronic.entities.Category;
+import product.management.electronic.entities.Product;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.services.impl.ProductSearchServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchServiceImpl productSearchService;
+
+    private Product laptop;
+    private Product mouse;
+    private Product monitor;
+
+    @BeforeEach
+    public void setUp() {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName("Laptop Gaming");
+        category.setType("laptop");
+
+        laptop = product("Asus ROG Strix G16", "Asus", "ROG-G16", "Laptop gaming màn hình 165Hz", category);
+        mouse = product("Chuột Logitech G502", "Logitech", "LOG-G502", "Chuột gaming có dây", category);
+        monitor = product("Màn hình Asus 27 inch", "Asus", "ASUS-27", "Tấm nền IPS", category);
+
+        productSearchService.onProductSaved(laptop);
+        productSearchService.onProductSaved(mouse);
+        productSearchService.onProductSaved(monitor);
+    }
+
+    @Test
+    public void testSearch_PrefixMatch() {
+        List<UUID> result = productSearchService.search("logi");
+        assertEquals(List.of(mouse.getId()), result);
+    }
+
+    @Test
+    public void testSearch_MultiTermRequiresAllTerms() {
+        List<UUID> result = productSearchService.search("asus strix");
+        assertEquals(List.of(laptop.getId()), result);
+    }
+
+    @Test
+    public void testSearch_NameRanksAboveDescription() {
+        List<UUID> result = productSearchService.search("man hinh");
+        assertEquals(List.of(monitor.getId(), laptop.getId()), result);
+    }
+
+    @Test
+    public void testSearch_IgnoresDiacriticsAndCase() {
+        List<UUID> result = productSearchService.search("CHUỘT");
+        assertEquals(List.of(mouse.getId()), result);
+    }
+
+    @Test
+    public void testRemove_DropsProductFromResults() {
+        productSearchService.onProductDeleted(laptop.getId());
+        List<UUID> result = productSearchService.search("asus");
+        assertEquals(List.of(monitor.getId()), result);
+    }
+
+    @Test
+    public void testIndex_ReplacesPreviousTokens() {
+        laptop.setName("Dell XPS 13");
+        laptop.setBrand("Dell");
+        productSearchService.onProductSaved(laptop);
+        assertTrue(productSearchService.search("strix").isEmpty());
+        assertEquals(List.of(laptop.getId()), productSearchService.search("xps"));
+    }
+
+    @Test
+    public void testSearch_SortsMatchesInIndexByPriceDescending() {
+        laptop.setPrice(new BigDecimal("32000000"));
+        monitor.setPrice(new BigDecimal("7000000"));
+        productSearchService.onProductSaved(laptop);
+        productSearchService.onProductSaved(monitor);
+
+        assertTrue(productSearchService.canSortBy("price"));
+        assertEquals(List.of(laptop.getId(), monitor.getId()), productSearchService.search("asus", "price"));
+        assertEquals(List.of(monitor.getId(), laptop.getId()), productSearchService.search("asus", "name"));
+    }
+
+    @Test
+    public void testSearch_SortsByQuantityAfterStockChange() {
+        laptop.setQuantity(5);
+        monitor.setQuantity(2);
+        productSearchService.onProductSaved(laptop);
+        productSearchService.onProductSaved(monitor);
+
+        productSearchService.onStockChanged(monitor.getId(), 9);
+
+        assertEquals(List.of(monitor.getId(), laptop.getId()), productSearchService.search("asus", "quantity"));
+        assertFalse(productSearchService.canSortBy("sku"));
+    }
+
+    private Product product(String name, String brand, String sku, String description, Category category) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName(name);
+        product.setBrand(brand);
+        product.setSku(sku);
+        product.setDescription(description);
+        product.setCategory(category);
+        return product;
+    }
+}
@@ -0,0 +1,90 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import product.management.electronic.entities.Product;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.repository.ProductRepository;
+import product.management.electronic.repository.StatisticsRepository;
+import product.management.electronic.repository.projection.ProductQuantityView;
+import product.management.electronic.services.impl.ProductSuggestServiceImpl;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSuggestServiceTest {
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @InjectMocks
+    private ProductSuggestServiceImpl productSuggestService;
+
+    @Test
+    public void testSuggest_MatchesNameAndWordPrefixes() {
+        productSuggestService.onProductSaved(product("Asus ROG Strix G16", "Asus"));
+        productSuggestService.onProductSaved(product("Chuột Logitech G502", "Logitech"));
+
+        assertEquals(List.of("Asus", "Asus ROG Strix G16"), productSuggestService.suggest("as", 10));
+        assertEquals(List.of("Asus ROG Strix G16"), productSuggestService.suggest("strix", 10));
+        assertEquals(List.of("Chuột Logitech G502"), productSuggestService.suggest("chuot", 10));
+    }
+
+    @Test
+    public void testSuggest_RanksBySales() {
+        Product slow = product("Laptop Dell XPS", "Dell");
+        Product fast = product("Laptop Lenovo Legion", "Lenovo");
+        when(statisticsRepository.sumQuantitySoldByProduct(OrderStatus.CANCELLED))
+                .thenReturn(List.of(sold(slow.getId(), 2), sold(fast.getId(), 40)));
+        when(productRepository.streamAllWithCategory()).thenReturn(Stream.of(slow, fast));
+
+        productSuggestService.rebuild();
+
+        assertEquals(List.of("Laptop Lenovo Legion", "Laptop Dell XPS"), productSuggestService.suggest("lap", 10));
+        assertEquals(List.of("Laptop Lenovo Legion"), productSuggestService.suggest("lap", 1));
+    }
+
+    @Test
+    public void testSuggest_RemovedProductDisappears() {
+        Product product = product("Bàn phím cơ AKKO", "AKKO");
+        productSuggestService.onProductSaved(product);
+
+        productSuggestService.onProductDeleted(product.getId());
+
+        assertTrue(productSuggestService.suggest("ban", 10).isEmpty());
+        assertTrue(productSuggestService.suggest("akko", 10).isEmpty());
+    }
+
+    private Product product(String name, String brand) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName(name);
+        product.setBrand(brand);
+        return product;
+    }
+
+    private ProductQuantityView sold(UUID productId, long quantity) {
+        return new ProductQuantityView() {
+            @Override
+            public UUID getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+}
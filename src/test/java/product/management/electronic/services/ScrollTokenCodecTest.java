@@ -0,0 +1,73 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import product.management.electronic.enums.OrderStatus;
+import product.management.electronic.exceptions.BadRequestException;
+import product.management.electronic.utils.ScrollTokenCodec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static product.management.electronic.constants.MessageConstant.CURSOR_INVALID;
+
+public class ScrollTokenCodecTest {
+    @Test
+    public void testCursor_RoundTripsTypedKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Asus ROG, \"Strix\"");
+        keys.put("price", new BigDecimal("32000000.50"));
+        keys.put("quantity", 5);
+        keys.put("orderStatus", OrderStatus.COMPLETED);
+        keys.put("createdAt", LocalDateTime.of(2024, 5, 1, 10, 30, 15));
+        keys.put("note", null);
+        keys.put("id", UUID.randomUUID());
+
+        String cursor = ScrollTokenCodec.nextCursor(window(keys, true));
+        KeysetScrollPosition position = ScrollTokenCodec.decode(cursor, keys.keySet());
+
+        assertEquals(keys, position.getKeys());
+        assertTrue(position.scrollsForward());
+    }
+
+    @Test
+    public void testCursor_EndsWhenWindowIsExhausted() {
+        assertNull(ScrollTokenCodec.nextCursor(window(Map.of("id", UUID.randomUUID()), false)));
+        assertTrue(ScrollTokenCodec.decode(null, List.of("id")).isInitial());
+        assertTrue(ScrollTokenCodec.decode(" ", List.of("id")).isInitial());
+    }
+
+    @Test
+    public void testDecode_RejectsTamperedCursors() {
+        String valid = ScrollTokenCodec.nextCursor(window(Map.of("price", BigDecimal.TEN, "id", UUID.randomUUID()), true));
+
+        assertCursorInvalid("not*base64", List.of("id"));
+        assertCursorInvalid(encode("not json"), List.of("id"));
+        assertCursorInvalid(valid, List.of("name", "id"));
+        assertCursorInvalid(encode("{\"id\":[\"UUID\",\"not-a-uuid\"]}"), List.of("id"));
+        assertCursorInvalid(encode("{\"id\":[\"Object\",\"x\"]}"), List.of("id"));
+        assertCursorInvalid(encode("{\"id\":\"plain\"}"), List.of("id"));
+        assertCursorInvalid(encode("{\"status\":[\"enum:OrderStatus\",\"SHIPPED_TO_MARS\"]}"), List.of("status"));
+        assertCursorInvalid(encode("{\"status\":[\"enum:Missing\",\"PAID\"]}"), List.of("status"));
+        assertCursorInvalid(encode("{\"status\":[\"enum:../entities.Order\",\"PAID\"]}"), List.of("status"));
+    }
+
+    private void assertCursorInvalid(String cursor, Collection<String> requiredKeys) {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> ScrollTokenCodec.decode(cursor, requiredKeys));
+        assertEquals(CURSOR_INVALID, exception.getMessage());
+    }
+
+    private Window<String> window(Map<String, Object> lastKeys, boolean hasNext) {
+        return Window.from(List.of("first", "last"), index -> ScrollPosition.forward(lastKeys), hasNext);
+    }
+
+    private String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
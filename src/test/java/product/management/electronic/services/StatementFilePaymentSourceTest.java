@@ -0,0 +1,79 @@
+package product.management.electronic.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.dto.Payment.PaymentTransactionDto;
+import product.management.electronic.services.impl.StatementFilePaymentSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatementFilePaymentSourceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testPoll_CsvReadsOnlyAppendedCompleteLines() throws Exception {
+        Path file = directory.resolve("statement.csv");
+        Files.writeString(file, "content,amount\n\"ORDER1, chuyen khoan\",1500000\nORDER2,20");
+        StatementFilePaymentSource source = source(file);
+
+        List<PaymentTransactionDto> first = source.poll();
+        source.acknowledge();
+        assertEquals(1, first.size());
+        assertEquals("ORDER1, chuyen khoan", first.get(0).getContent());
+        assertEquals(0, new BigDecimal("1500000").compareTo(first.get(0).getAmount()));
+
+        append(file, "00000\nORDER3,30\n");
+        List<PaymentTransactionDto> second = source.poll();
+        source.acknowledge();
+        assertEquals(List.of("ORDER2", "ORDER3"), second.stream().map(PaymentTransactionDto::getContent).toList());
+        assertEquals(0, new BigDecimal("2000000").compareTo(second.get(0).getAmount()));
+
+        assertTrue(source.poll().isEmpty());
+    }
+
+    @Test
+    public void testPoll_UnacknowledgedLinesAreReadAgain() throws Exception {
+        Path file = directory.resolve("statement.ndjson");
+        Files.writeString(file, "{\"content\":\"ORDER1\",\"amount\":10}\nnot json\n");
+        StatementFilePaymentSource source = source(file);
+
+        assertEquals(1, source.poll().size());
+        assertEquals(1, source.poll().size());
+        source.acknowledge();
+        assertTrue(source.poll().isEmpty());
+    }
+
+    @Test
+    public void testPoll_TruncatedFileIsReadFromStart() throws Exception {
+        Path file = directory.resolve("statement.csv");
+        Files.writeString(file, "ORDER1,10\nORDER2,20\n");
+        StatementFilePaymentSource source = source(file);
+        source.poll();
+        source.acknowledge();
+
+        Files.writeString(file, "ORDER3,30\n");
+        List<PaymentTransactionDto> transactions = source.poll();
+        assertEquals("ORDER3", transactions.get(0).getContent());
+    }
+
+    private StatementFilePaymentSource source(Path file) {
+        StatementFilePaymentSource source = new StatementFilePaymentSource(new ObjectMapper());
+        ReflectionTestUtils.setField(source, "path", file);
+        return source;
+    }
+
+    private void append(Path file, String text) throws Exception {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,145 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import product.management.electronic.dto.Statistics.Revenue.RevenueByDateDto;
+import product.management.electronic.dto.Statistics.Revenue.RevenueByWeekDto;
+import product.management.electronic.dto.Statistics.Summary.RevenueMonthSummaryDto;
+import product.management.electronic.dto.Statistics.Summary.RevenueWeekSummaryDto;
+import product.management.electronic.dto.Statistics.Summary.RevenueYearSummaryDto;
+import product.management.electronic.entities.DailyRevenue;
+import product.management.electronic.mapper.StatisticsMapper;
+import product.management.electronic.repository.DailyRevenueRepository;
+import product.management.electronic.services.impl.StatisticsServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statistics;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StatisticsServiceImpl.class, StatisticsMapper.class})
+public class StatisticsServiceTest {
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private DailyRevenueRepository dailyRevenueRepository;
+
+    private LocalDate monthStart;
+    private LocalDate firstSunday;
+    private LocalDate secondWeek;
+    private LocalDate thirdWeek;
+    private LocalDate monthEnd;
+
+    @BeforeEach
+    public void setUp() {
+        monthStart = midWeekMonthStart(Year.now().getValue());
+        firstSunday = monthStart.with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+        secondWeek = firstSunday.plusDays(1);
+        thirdWeek = secondWeek.plusWeeks(1);
+        monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+
+        day(monthStart.minusDays(1), 1, "100");
+        day(monthStart, 2, "200");
+        day(firstSunday, 1, "300");
+        day(secondWeek.plusDays(2), 0, "0");
+        day(thirdWeek.plusDays(2), 1, "400");
+        day(monthEnd, 1, "50");
+        day(monthEnd.plusDays(1), 3, "1000");
+    }
+
+    @Test
+    public void testGetRevenueByDate_SkipsDaysWithoutOrders() {
+        assertEquals(List.of(new RevenueByDateDto(monthStart, 200.0)), statisticsService.getRevenueByDate(monthStart));
+        assertTrue(statisticsService.getRevenueByDate(secondWeek.plusDays(2)).isEmpty());
+        assertTrue(statisticsService.getRevenueByDate(secondWeek).isEmpty());
+    }
+
+    @Test
+    public void testGetRevenueByWeek_FillsEveryDayOfWeekSplitAcrossMonths() {
+        LocalDate monday = monthStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        RevenueWeekSummaryDto summary = statisticsService.getRevenueByWeek(monthStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+
+        assertEquals(7, summary.getDailyRevenue().size());
+        assertEquals(monday, summary.getDailyRevenue().get(0).getWeek());
+        assertEquals(100.0, revenueOn(summary.getDailyRevenue(), monthStart.minusDays(1)));
+        assertEquals(200.0, revenueOn(summary.getDailyRevenue(), monthStart));
+        assertEquals(300.0, revenueOn(summary.getDailyRevenue(), firstSunday));
+        assertEquals(600.0, summary.getWeeklyTotal());
+    }
+
+    @Test
+    public void testGetRevenueByMonth_ClampsFirstWeekToMonthStartAndKeepsEmptyWeeks() {
+        RevenueMonthSummaryDto summary = statisticsService.getRevenueByMonth(monthStart.getMonthValue());
+
+        Map<LocalDate, Double> expected = new LinkedHashMap<>();
+        expected.put(monthStart, 500.0);
+        for (LocalDate monday = secondWeek; !monday.isAfter(monthEnd); monday = monday.plusWeeks(1)) {
+            expected.put(monday, 0.0);
+        }
+        expected.put(thirdWeek, 400.0);
+        expected.put(monthEnd.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), 50.0);
+        Map<LocalDate, Double> actual = new LinkedHashMap<>();
+        summary.getWeeklyRevenue().forEach(week -> actual.put(week.getWeek(), week.getTotalRevenue()));
+
+        assertEquals(expected, actual);
+        assertEquals(monthStart, summary.getTotalMonthRevenue().getMonth());
+        assertEquals(950.0, summary.getTotalMonthRevenue().getTotalRevenue());
+    }
+
+    @Test
+    public void testGetRevenueByYear_SumsEachMonthAndZeroFillsTheRest() {
+        RevenueYearSummaryDto summary = statisticsService.getRevenueByYear(monthStart.getYear());
+
+        assertEquals(12, summary.getMonthlyRevenue().size());
+        int month = monthStart.getMonthValue();
+        assertEquals(100.0, summary.getMonthlyRevenue().get(month - 2).getTotalRevenue());
+        assertEquals(950.0, summary.getMonthlyRevenue().get(month - 1).getTotalRevenue());
+        assertEquals(1000.0, summary.getMonthlyRevenue().get(month).getTotalRevenue());
+        assertEquals(0.0, summary.getMonthlyRevenue().get(month > 6 ? 0 : 11).getTotalRevenue());
+        assertEquals(2050.0, summary.getYearlyTotal());
+    }
+
+    private LocalDate midWeekMonthStart(int year) {
+        for (int month = 2; month <= 11; month++) {
+            DayOfWeek dayOfWeek = LocalDate.of(year, month, 1).getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.MONDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                return LocalDate.of(year, month, 1);
+            }
+        }
+        throw new IllegalStateException("No month starting mid-week in " + year);
+    }
+
+    private void day(LocalDate date, long orderCount, String revenue) {
+        dailyRevenueRepository.save(new DailyRevenue(date, orderCount, orderCount, new BigDecimal(revenue)));
+    }
+
+    private double revenueOn(List<RevenueByWeekDto> days, LocalDate date) {
+        return days.stream()
+                .filter(day -> day.getWeek().equals(date))
+                .mapToDouble(RevenueByWeekDto::getTotalRevenue)
+                .findFirst()
+                .orElseThrow();
+    }
+}
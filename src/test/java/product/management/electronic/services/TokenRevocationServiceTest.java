@@ -0,0 +1,78 @@
+package product.management.electronic.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import product.management.electronic.dto.Auth.TokenClaimsDto;
+import product.management.electronic.entities.TokenRevocation;
+import product.management.electronic.repository.TokenRevocationRepository;
+import product.management.electronic.repository.UserRepository;
+import product.management.electronic.services.impl.TokenRevocationServiceImpl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @InjectMocks
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedUsers", 1000);
+        when(tokenRevocationRepository.findAllByUpdatedAtAfter(any())).thenReturn(List.of());
+        tokenRevocationService.sync();
+    }
+
+    @Test
+    public void testRevokeAllFor_RejectsTokensIssuedBeforeCutoff() {
+        long now = Instant.now().toEpochMilli();
+        TokenClaimsDto oldToken = claims("alice", now - 60_000);
+
+        tokenRevocationService.revokeAllFor("alice");
+
+        assertTrue(tokenRevocationService.isRevoked(oldToken));
+        assertFalse(tokenRevocationService.isRevoked(claims("alice", Instant.now().toEpochMilli() + 1)));
+        verify(tokenRevocationRepository).save(any());
+    }
+
+    @Test
+    public void testIsRevoked_UnrevokedUserSkipsDatabase() {
+        tokenRevocationService.revokeAllFor("alice");
+
+        assertFalse(tokenRevocationService.isRevoked(claims("bob", Instant.now().toEpochMilli())));
+        verify(tokenRevocationRepository, never()).findById(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void testIsRevoked_ConsultsDatabaseUntilFirstSync() {
+        TokenRevocationServiceImpl restarted = new TokenRevocationServiceImpl(userRepository, tokenRevocationRepository);
+        long cutoff = Instant.now().toEpochMilli();
+        when(tokenRevocationRepository.findById("alice"))
+                .thenReturn(Optional.of(new TokenRevocation("alice", cutoff, LocalDateTime.now())));
+
+        assertTrue(restarted.isRevoked(claims("alice", cutoff - 1_000)));
+    }
+
+    private TokenClaimsDto claims(String username, long issuedAt) {
+        return new TokenClaimsDto(username, List.of("ROLE_USER"), null, issuedAt, issuedAt / 1000 + 3600);
+    }
+}
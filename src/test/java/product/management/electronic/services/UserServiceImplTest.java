@@ -1,13 +1,11 @@
 package product.management.electronic.services;
 
-import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -38,11 +36,11 @@ public class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxService emailOutboxService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
     @InjectMocks
     private UserServiceImpl userService;
-    @Mock
-    private MimeMessage mimeMessage;
     RegisterDto validRequest;
     User user;
 
@@ -62,14 +60,12 @@ public class UserServiceImplTest {
     @Test
     void testRegisterUser_WhenValid_Success() throws Exception {
         when(userMapper.toEntity(validRequest)).thenReturn(user);
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(mimeMessage);
 
         AuthDto authDto = userService.registerUser(validRequest);
 
         assertEquals(user.getEmail(), authDto.getEmail());
         verify(userRepository).save(any(User.class));
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutboxService).enqueue(eq(user.getEmail()), anyString(), contains(user.getUsername()));
     }
 
     @Test
@@ -130,6 +126,7 @@ public class UserServiceImplTest {
         assertEquals("encodedNewPassword", user.getPassword());
         verify(userRepository).findByUsername(username);
         verify(userRepository).save(user);
+        verify(tokenRevocationService).revokeAllFor(username);
     }
     @Test
     public void testChangePassword_NewPasswordIsNull() {
@@ -170,12 +167,11 @@ public class UserServiceImplTest {
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
 
         userService.forgotPassword(email);
 
         verify(userRepository).findByEmail(email);
-        verify(mailSender).send(mimeMessage);
+        verify(emailOutboxService).enqueue(eq(email), anyString(), contains(username));
     }
     @Test
     public void testForgotPassword_EmailNotFound() {
@@ -189,7 +185,7 @@ public class UserServiceImplTest {
         assertEquals("Email not found!", exception.getMessage());
     }
     @Test
-    public void testForgotPassword_EmailSendFails() throws Exception {
+    public void testForgotPassword_EmailEnqueueFails() throws Exception {
         String email = "user@example.com";
         String username = "testuser";
         User user = new User();
@@ -198,8 +194,7 @@ public class UserServiceImplTest {
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(anyString())).thenReturn("encodedNewPassword");
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("Simulated email failure")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new RuntimeException("Simulated outbox failure")).when(emailOutboxService).enqueue(eq(email), anyString(), anyString());
 
         assertThrows(RuntimeException.class, () -> userService.forgotPassword(email));
     }